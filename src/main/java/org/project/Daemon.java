@@ -0,0 +1,241 @@
+package org.project;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
+
+/**
+ * Long-lived launcher that keeps the JVM, the loaded test classes and warm browsers between runs.
+ * <p>
+ * Protocol: a client connects to the loopback port and sends one line with the same options
+ * {@link Main} accepts (or {@code shutdown}), separated by NUL characters so arguments such as
+ * tag expressions keep their spaces. A line without NUL is split on whitespace, which keeps hand-typed
+ * commands working. Test events are streamed back line by line, followed by the summary and
+ * a final {@code END <exit code>} line.
+ */
+public class Daemon {
+
+    static final int DEFAULT_PORT = 7799;
+    static final char ARGUMENT_SEPARATOR = '\0';
+
+    static final String USAGE = """
+            Usage: org.project.Main daemon [options]
+              --port <port>               loopback port to listen on (default 7799)
+              --warm-drivers <n>          browsers started up front and reused between runs (default 1)
+              --resume-passenger-form     reopen a cached passenger form URL instead of repeating the search flow
+              --results-dir <dir>         Allure results directory for all runs (default target/allure-results)
+            Usage: org.project.Main send [--port <port>] <launcher options>|shutdown
+            """;
+
+    private final int port;
+    private final TestRunner runner = new TestRunner();
+
+    Daemon(int port) {
+        this.port = port;
+    }
+
+    static void start(Settings settings) throws IOException {
+        System.setProperty("allure.results.directory", settings.resultsDir());
+        System.setProperty(DriverPool.POOLING_PROPERTY, "true");
+        if (settings.resumePassengerForm()) {
+            System.setProperty("passengerForm.resume", "true");
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(DriverPool::shutdown));
+
+        long start = System.nanoTime();
+        int testCount = preloadTestClasses();
+        DriverPool.warmUp(settings.warmDrivers());
+        System.out.printf("Daemon ready on 127.0.0.1:%d in %.1f s (%d tests loaded, %d browsers warm)%n",
+                settings.port(), (System.nanoTime() - start) / 1e9, testCount, DriverPool.idleCount());
+
+        new Daemon(settings.port()).serve();
+    }
+
+    /**
+     * Sends one command to a running daemon and prints what it streams back.
+     *
+     * @return the exit code reported by the daemon
+     */
+    static int send(String... args) throws IOException {
+        int port = DEFAULT_PORT;
+        int first = 0;
+        if (args.length > 0 && args[0].equals("--port")) {
+            port = LaunchOptions.positive(LaunchOptions.value(args, 1, "--port"), "--port");
+            first = 2;
+        }
+        if (first == args.length) {
+            throw new IllegalArgumentException("Missing command for send");
+        }
+        String command = String.join(String.valueOf(ARGUMENT_SEPARATOR), Arrays.copyOfRange(args, first, args.length));
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8))) {
+            out.println(command);
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.startsWith("END ")) {
+                    return Integer.parseInt(line.substring(4).trim());
+                }
+                System.out.println(line);
+            }
+        }
+        return 1;
+    }
+
+    private void serve() throws IOException {
+        try (ServerSocket server = new ServerSocket(port, 50, InetAddress.getLoopbackAddress())) {
+            while (true) {
+                try (Socket client = server.accept();
+                     BufferedReader in = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+                     PrintWriter out = new PrintWriter(client.getOutputStream(), true, StandardCharsets.UTF_8)) {
+                    String command = in.readLine();
+                    if (command == null || command.isBlank()) {
+                        out.println(LaunchOptions.USAGE);
+                        out.println("END 2");
+                    } else if (command.strip().equals("shutdown")) {
+                        out.println("Daemon stopping");
+                        out.println("END 0");
+                        return;
+                    } else {
+                        int exitCode;
+                        try {
+                            exitCode = handle(command, out);
+                        } catch (RuntimeException e) {
+                            // a bad request must not take the warm JVM and its browsers down
+                            out.println(e.getClass().getSimpleName() + ": " + e.getMessage());
+                            exitCode = 2;
+                        }
+                        out.println("END " + exitCode);
+                    }
+                } catch (IOException e) {
+                    System.err.println("Client connection failed: " + e.getMessage());
+                }
+            }
+        } finally {
+            DriverPool.shutdown();
+        }
+    }
+
+    private int handle(String command, PrintWriter out) {
+        String[] args = command.indexOf(ARGUMENT_SEPARATOR) >= 0
+                ? command.split(String.valueOf(ARGUMENT_SEPARATOR))
+                : command.strip().split("\\s+");
+        LaunchOptions options;
+        try {
+            options = LaunchOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            out.println(e.getMessage());
+            out.print(LaunchOptions.USAGE);
+            return 2;
+        }
+        if (options.help) {
+            out.print(LaunchOptions.USAGE);
+            return 0;
+        }
+
+        System.out.println("Running: " + String.join(" ", args));
+        TestExecutionSummary summary = runner.run(options, out, new StreamingListener(out));
+        return summary.getTotalFailureCount() == 0 ? 0 : 1;
+    }
+
+    /**
+     * Options of the daemon itself, parsed like {@link LaunchOptions}.
+     */
+    record Settings(int port, int warmDrivers, boolean resumePassengerForm, String resultsDir) {
+
+        static Settings parse(String... args) {
+            int port = DEFAULT_PORT;
+            int warmDrivers = 1;
+            boolean resumePassengerForm = false;
+            String resultsDir = "target/allure-results";
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--port" -> port = LaunchOptions.positive(LaunchOptions.value(args, ++i, arg), arg);
+                    case "--warm-drivers" -> warmDrivers = LaunchOptions.nonNegative(LaunchOptions.value(args, ++i, arg), arg);
+                    case "--resume-passenger-form" -> resumePassengerForm = true;
+                    case "--results-dir" -> resultsDir = LaunchOptions.value(args, ++i, arg);
+                    default -> throw new IllegalArgumentException("Unknown daemon option: " + arg);
+                }
+            }
+            return new Settings(port, warmDrivers, resumePassengerForm, resultsDir);
+        }
+    }
+
+    /**
+     * Discovers every test once so their classes are loaded and initialised before the first request.
+     */
+    private static int preloadTestClasses() {
+        LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+                .selectors(selectPackage(""))
+                .build();
+        return (int) LauncherFactory.create().discover(request).countTestIdentifiers(TestIdentifier::isTest);
+    }
+
+    /**
+     * Streams one line per test event back to the client.
+     */
+    private static class StreamingListener implements TestExecutionListener {
+        private final PrintWriter out;
+        private final Map<String, Long> startedAt = new ConcurrentHashMap<>();
+
+        StreamingListener(PrintWriter out) {
+            this.out = out;
+        }
+
+        @Override
+        public void executionStarted(TestIdentifier identifier) {
+            if (identifier.isTest()) {
+                startedAt.put(identifier.getUniqueId(), System.nanoTime());
+                out.println("STARTED " + name(identifier));
+            }
+        }
+
+        @Override
+        public void executionSkipped(TestIdentifier identifier, String reason) {
+            if (identifier.isTest()) {
+                out.println("SKIPPED " + name(identifier) + " " + reason);
+            }
+        }
+
+        @Override
+        public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+            if (!identifier.isTest()) {
+                return;
+            }
+            Long start = startedAt.remove(identifier.getUniqueId());
+            long millis = start == null ? 0 : (System.nanoTime() - start) / 1_000_000;
+            String message = result.getThrowable()
+                    .map(t -> " " + t.getClass().getSimpleName() + ": " + String.valueOf(t.getMessage()).lines().findFirst().orElse(""))
+                    .orElse("");
+            out.println(result.getStatus() + " " + name(identifier) + " (" + millis + " ms)" + message);
+        }
+
+        private static String name(TestIdentifier identifier) {
+            return identifier.getSource()
+                    .filter(MethodSource.class::isInstance)
+                    .map(source -> ((MethodSource) source).getClassName() + "#" + ((MethodSource) source).getMethodName())
+                    .orElse(identifier.getDisplayName());
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package org.project;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.logging.LogType;
+import org.openqa.selenium.logging.LoggingPreferences;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+
+/**
+ * Hands out Chrome sessions to the UI tests.
+ * <p>
+ * By default every {@link #acquire()} starts a new browser and {@link #release(WebDriver)} quits it.
+ * When pooling is enabled (daemon mode) released browsers are kept alive and reused by the next test,
+ * which skips Chrome start-up and keeps the site's warm HTTP caches. Cookies, storage and the open page
+ * are cleared on release, so a reused browser starts out like a fresh one.
+ */
+public final class DriverPool {
+
+    public static final String POOLING_PROPERTY = "driver.pool.enabled";
+
+    private static final Deque<WebDriver> IDLE = new ConcurrentLinkedDeque<>();
+    private static final ThreadLocal<WebDriver> CURRENT = new ThreadLocal<>();
+    private static final List<Consumer<WebDriver>> RESET_LISTENERS = new CopyOnWriteArrayList<>();
+
+    private DriverPool() {
+    }
+
+    public static boolean isPooling() {
+        return Boolean.getBoolean(POOLING_PROPERTY);
+    }
+
+    public static WebDriver acquire() {
+        WebDriver driver = null;
+        if (isPooling()) {
+            WebDriver idle;
+            while (driver == null && (idle = IDLE.pollFirst()) != null) {
+                driver = isAlive(idle) ? idle : quietlyQuit(idle);
+            }
+        }
+        if (driver == null) {
+            driver = newDriver();
+        }
+        CURRENT.set(driver);
+        return driver;
+    }
+
+    public static void release(WebDriver driver) {
+        if (driver == null) {
+            return;
+        }
+        if (CURRENT.get() == driver) {
+            CURRENT.remove();
+        }
+        if (isPooling() && resetWindows(driver) && notifyReset(driver) && clearState(driver)) {
+            IDLE.addFirst(driver);
+        } else {
+            quietlyQuit(driver);
+        }
+    }
+
+    /**
+     * Browser used by the test running on the current thread, or {@code null} outside a UI test.
+     */
+    public static WebDriver current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Called with every pooled browser on release, right before its state is cleared,
+     * e.g. to forget that it was seeded. A listener that throws gets the browser quit instead of pooled.
+     */
+    public static void onReset(Consumer<WebDriver> listener) {
+        RESET_LISTENERS.add(listener);
+    }
+
+    public static void warmUp(int count) {
+        List<WebDriver> started = new ArrayList<>();
+        for (int i = IDLE.size(); i < count; i++) {
+            started.add(newDriver());
+        }
+        IDLE.addAll(started);
+    }
+
+    public static int idleCount() {
+        return IDLE.size();
+    }
+
+    public static void shutdown() {
+        WebDriver driver;
+        while ((driver = IDLE.pollFirst()) != null) {
+            quietlyQuit(driver);
+        }
+    }
+
+    private static WebDriver newDriver() {
+        // keep the browser console so it can be attached when a test fails
+        LoggingPreferences logging = new LoggingPreferences();
+        logging.enable(LogType.BROWSER, Level.ALL);
+        ChromeOptions options = new ChromeOptions();
+        options.setCapability(ChromeOptions.LOGGING_PREFS, logging);
+        return new ChromeDriver(options);
+    }
+
+    /**
+     * Closes every window a test opened except the first one, so the next test starts with a single tab.
+     */
+    private static boolean resetWindows(WebDriver driver) {
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            String keep = handles.iterator().next();
+            for (String handle : handles) {
+                if (!handle.equals(keep)) {
+                    driver.switchTo().window(handle).close();
+                }
+            }
+            driver.switchTo().window(keep);
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static boolean notifyReset(WebDriver driver) {
+        try {
+            RESET_LISTENERS.forEach(listener -> listener.accept(driver));
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Drops cookies, local and session storage of the open page and leaves the browser on {@code about:blank}.
+     */
+    private static boolean clearState(WebDriver driver) {
+        try {
+            try {
+                ((JavascriptExecutor) driver).executeScript("window.localStorage.clear(); window.sessionStorage.clear();");
+            } catch (Exception ignored) {
+                // pages without storage access, e.g. about:blank
+            }
+            driver.manage().deleteAllCookies();
+            if (driver instanceof HasCdp cdp) {
+                // deleteAllCookies only covers the current domain
+                cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+            }
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static boolean isAlive(WebDriver driver) {
+        try {
+            driver.getWindowHandles();
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static WebDriver quietlyQuit(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (Exception ignored) {
+        }
+        return null;
+    }
+}
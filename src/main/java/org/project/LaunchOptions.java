@@ -0,0 +1,109 @@
+package org.project;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.TagFilter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command line options of the in-process launcher.
+ */
+public class LaunchOptions {
+
+    static final String USAGE = """
+            Usage: org.project.Main [options]
+              --suite <package>        run every test class in a package, e.g. task1 (repeatable)
+              --class <class>          run a test class, e.g. task2.PassengerFormTests (repeatable)
+              --method <class#method>  run a single test method (repeatable)
+              --tag <expression>       only run tests matching the tag expression, e.g. ui (repeatable)
+              --exclude-tag <expr>     skip tests matching the tag expression (repeatable)
+              --parallelism <n>        number of test classes run concurrently (default 1)
+              --results-dir <dir>      Allure results directory (default target/allure-results)
+              --slowest <n>            number of slowest tests listed in the timing summary (default 10)
+              --help                   print this message
+            Without selectors every test class on the classpath is run.
+            """;
+
+    final List<String> suites = new ArrayList<>();
+    final List<String> classes = new ArrayList<>();
+    final List<String> methods = new ArrayList<>();
+    final List<String> includeTags = new ArrayList<>();
+    final List<String> excludeTags = new ArrayList<>();
+    int parallelism = 1;
+    String resultsDir = "target/allure-results";
+    int slowest = 10;
+    boolean help;
+
+    public static LaunchOptions parse(String... args) {
+        LaunchOptions options = new LaunchOptions();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--suite" -> options.suites.add(value(args, ++i, arg));
+                case "--class" -> options.classes.add(value(args, ++i, arg));
+                case "--method" -> options.methods.add(method(value(args, ++i, arg), arg));
+                case "--tag" -> options.includeTags.add(tagExpression(value(args, ++i, arg), arg));
+                case "--exclude-tag" -> options.excludeTags.add(tagExpression(value(args, ++i, arg), arg));
+                case "--parallelism" -> options.parallelism = positive(value(args, ++i, arg), arg);
+                case "--results-dir" -> options.resultsDir = value(args, ++i, arg);
+                case "--slowest" -> options.slowest = positive(value(args, ++i, arg), arg);
+                case "--help", "-h" -> options.help = true;
+                default -> throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+        return options;
+    }
+
+    boolean hasSelectors() {
+        return !suites.isEmpty() || !classes.isEmpty() || !methods.isEmpty();
+    }
+
+    static String value(String[] args, int index, String option) {
+        if (index >= args.length || args[index].startsWith("--")) {
+            throw new IllegalArgumentException("Missing value for " + option);
+        }
+        return args[index];
+    }
+
+    /**
+     * Rejects values the launcher would only reject once the run starts, e.g. a method without {@code #}.
+     */
+    private static String method(String value, String option) {
+        try {
+            DiscoverySelectors.selectMethod(value);
+            return value;
+        } catch (JUnitException e) {
+            throw new IllegalArgumentException(option + " expects <class>#<method> but was: " + value, e);
+        }
+    }
+
+    private static String tagExpression(String value, String option) {
+        try {
+            TagFilter.includeTags(value);
+            return value;
+        } catch (JUnitException e) {
+            throw new IllegalArgumentException(option + " has an invalid tag expression: " + e.getMessage(), e);
+        }
+    }
+
+    static int positive(String value, String option) {
+        return atLeast(1, value, option, "a positive number");
+    }
+
+    static int nonNegative(String value, String option) {
+        return atLeast(0, value, option, "zero or a positive number");
+    }
+
+    private static int atLeast(int min, String value, String option, String expected) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= min) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw new IllegalArgumentException(option + " expects " + expected + " but was: " + value);
+    }
+}
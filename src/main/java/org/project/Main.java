@@ -1,6 +1,60 @@
 package org.project;
 
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Arrays;
+
 public class Main {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws IOException {
+        if (args.length > 0 && args[0].equals("daemon")) {
+            Daemon.Settings settings;
+            try {
+                settings = Daemon.Settings.parse(Arrays.copyOfRange(args, 1, args.length));
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+                System.err.print(Daemon.USAGE);
+                System.exit(2);
+                return;
+            }
+            Daemon.start(settings);
+            return;
+        }
+        if (args.length > 0 && args[0].equals("send")) {
+            int exitCode;
+            try {
+                exitCode = Daemon.send(Arrays.copyOfRange(args, 1, args.length));
+            } catch (IllegalArgumentException e) {
+                System.err.println(e.getMessage());
+                System.err.print(Daemon.USAGE);
+                exitCode = 2;
+            }
+            System.exit(exitCode);
+            return;
+        }
+
+        LaunchOptions options;
+        try {
+            options = LaunchOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.print(LaunchOptions.USAGE);
+            System.err.print(Daemon.USAGE);
+            System.exit(2);
+            return;
+        }
+        if (options.help) {
+            System.out.print(LaunchOptions.USAGE);
+            System.out.print(Daemon.USAGE);
+            return;
+        }
+
+        // must be set before the Allure lifecycle is created by the first test
+        System.setProperty("allure.results.directory", options.resultsDir);
+
+        PrintWriter out = new PrintWriter(System.out, true);
+        TestExecutionSummary summary = new TestRunner().run(options, out);
+        System.exit(summary.getTotalFailureCount() == 0 ? 0 : 1);
     }
-}
\ No newline at end of file
+}
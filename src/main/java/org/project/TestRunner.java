@@ -0,0 +1,72 @@
+package org.project;
+
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TagFilter;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPackage;
+
+/**
+ * Runs tests through the JUnit Platform Launcher inside the current JVM.
+ * Allure results are written by the Allure listener found on the classpath.
+ */
+public class TestRunner {
+
+    private final Launcher launcher = LauncherFactory.create();
+
+    public TestExecutionSummary run(LaunchOptions options, PrintWriter out, TestExecutionListener... extraListeners) {
+        LauncherDiscoveryRequest request = request(options);
+        SummaryGeneratingListener summary = new SummaryGeneratingListener();
+        TimingSummaryListener timings = new TimingSummaryListener();
+
+        List<TestExecutionListener> listeners = new ArrayList<>(List.of(summary, timings));
+        listeners.addAll(List.of(extraListeners));
+        launcher.execute(request, listeners.toArray(TestExecutionListener[]::new));
+
+        TestExecutionSummary result = summary.getSummary();
+        result.printFailuresTo(out, 15);
+        result.printTo(out);
+        timings.printTo(out, options.slowest);
+        return result;
+    }
+
+    static LauncherDiscoveryRequest request(LaunchOptions options) {
+        List<DiscoverySelector> selectors = new ArrayList<>();
+        options.suites.forEach(suite -> selectors.add(selectPackage(suite)));
+        options.classes.forEach(clazz -> selectors.add(selectClass(clazz)));
+        options.methods.forEach(method -> selectors.add(selectMethod(method)));
+        if (!options.hasSelectors()) {
+            selectors.add(selectPackage(""));
+        }
+
+        LauncherDiscoveryRequestBuilder builder = LauncherDiscoveryRequestBuilder.request().selectors(selectors);
+        if (!options.includeTags.isEmpty()) {
+            builder.filters(TagFilter.includeTags(options.includeTags));
+        }
+        if (!options.excludeTags.isEmpty()) {
+            builder.filters(TagFilter.excludeTags(options.excludeTags));
+        }
+        if (options.parallelism > 1) {
+            builder.configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                    // test classes keep their WebDriver in static fields, so only whole classes run concurrently
+                    .configurationParameter("junit.jupiter.execution.parallel.mode.default", "same_thread")
+                    .configurationParameter("junit.jupiter.execution.parallel.mode.classes.default", "concurrent")
+                    .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                    .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism",
+                            String.valueOf(options.parallelism));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,97 @@
+package org.project;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures wall time per test and per test class and prints the slowest ones after the run.
+ */
+public class TimingSummaryListener implements TestExecutionListener {
+
+    private final Map<String, Long> startedAt = new ConcurrentHashMap<>();
+    private final List<Timing> tests = Collections.synchronizedList(new ArrayList<>());
+    private final List<Timing> classes = Collections.synchronizedList(new ArrayList<>());
+    private long planStartedAt;
+    private long planFinishedAt;
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        planStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        planFinishedAt = System.nanoTime();
+    }
+
+    @Override
+    public void executionStarted(TestIdentifier identifier) {
+        startedAt.put(identifier.getUniqueId(), System.nanoTime());
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+        Long start = startedAt.remove(identifier.getUniqueId());
+        if (start == null) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        if (identifier.isTest()) {
+            tests.add(new Timing(name(identifier), nanos, result.getStatus()));
+        } else if (identifier.getSource().orElse(null) instanceof ClassSource) {
+            classes.add(new Timing(name(identifier), nanos, result.getStatus()));
+        }
+    }
+
+    public void printTo(PrintWriter out, int slowest) {
+        out.printf("%nTiming summary: %d tests in %.3f s%n", tests.size(), seconds(planFinishedAt - planStartedAt));
+
+        out.println("  Per class:");
+        snapshot(classes).forEach(t -> out.printf("    %8.3f s  %s%n", seconds(t.nanos()), t.name()));
+
+        out.printf("  Slowest %d tests:%n", Math.min(slowest, tests.size()));
+        snapshot(tests).stream().limit(slowest)
+                .forEach(t -> out.printf("    %8.3f s  %-10s %s%n", seconds(t.nanos()), t.status(), t.name()));
+        out.flush();
+    }
+
+    private static List<Timing> snapshot(List<Timing> timings) {
+        synchronized (timings) {
+            return timings.stream().sorted(Comparator.comparingLong(Timing::nanos).reversed()).toList();
+        }
+    }
+
+    private static String name(TestIdentifier identifier) {
+        return identifier.getSource()
+                .map(source -> {
+                    if (source instanceof MethodSource method) {
+                        String invocation = identifier.getDisplayName().startsWith("[") ? " " + identifier.getDisplayName() : "";
+                        return method.getClassName() + "#" + method.getMethodName() + invocation;
+                    }
+                    if (source instanceof ClassSource clazz) {
+                        return clazz.getClassName();
+                    }
+                    return null;
+                })
+                .orElse(identifier.getDisplayName());
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+
+    private record Timing(String name, long nanos, TestExecutionResult.Status status) {
+    }
+}
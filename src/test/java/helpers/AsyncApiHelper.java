@@ -0,0 +1,148 @@
+package helpers;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.util.ResultsUtils;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Non-blocking counterpart of {@link ApiHelper}.
+ * <p>
+ * Calls run on a fixed pool, so at most {@code api.maxInFlight} (default 8) requests are in flight;
+ * further calls queue up. Every call is wrapped in an Allure step attached to the test or step that
+ * issued it, and assertions passed in as verifications fail that step, not whatever runs next on the test thread.
+ * Use {@link #await} / {@link #awaitAll} to get results back on the test thread with the original assertion error.
+ */
+public class AsyncApiHelper {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+    private static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(
+            Integer.getInteger("api.maxInFlight", 8),
+            runnable -> {
+                // no inherited thread locals: Allure keeps its step stack in one, and a copy of the stack of whichever
+                // test happened to start the thread would attach later steps to that test
+                Thread thread = new Thread(null, runnable, "async-api-" + THREAD_COUNTER.incrementAndGet(), 0, false);
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    public static CompletableFuture<Response> postTimetableSearch(String body) {
+        return inStep("Async POST timetable search", () -> ApiHelper.postTimetableSearch(body));
+    }
+
+    public static CompletableFuture<Response> getSearchHistory(String searchHistoryCookie) {
+        return inStep("Async GET search history", () -> ApiHelper.getSearchHistory(searchHistoryCookie));
+    }
+
+    /**
+     * Posts a timetable search, follows up with the history GET using the returned {@code search_history} cookie
+     * and runs {@code verification} on both responses, all inside one step named {@code stepName}.
+     */
+    public static CompletableFuture<SearchWithHistory> searchWithHistory(String stepName, String body,
+                                                                         BiConsumer<Response, Response> verification) {
+        return inStep(stepName, () -> {
+            Response search = ApiHelper.postTimetableSearch(body);
+            String cookie = search.getCookie("search_history");
+            if (cookie == null) {
+                throw new AssertionError("Expected search_history cookie in POST response, status " + search.getStatusCode());
+            }
+            Response history = ApiHelper.getSearchHistory(cookie);
+            verification.accept(search, history);
+            return new SearchWithHistory(search, history);
+        });
+    }
+
+    /**
+     * Runs {@code action} on the pool inside an Allure step that belongs to the caller's current test or step.
+     * Outside a test (e.g. in a {@code @TestFactory}) there is nothing to attach to and no steps are reported.
+     */
+    public static <T> CompletableFuture<T> inStep(String stepName, Supplier<T> action) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String parent = lifecycle.getCurrentTestCaseOrStep().orElse(null);
+
+        return CompletableFuture.supplyAsync(() -> {
+            if (parent == null) {
+                return action.get();
+            }
+            String uuid = UUID.randomUUID().toString();
+            // parents keep their steps in a plain list, so concurrent siblings must not be added at the same time
+            synchronized (AsyncApiHelper.class) {
+                lifecycle.startStep(parent, uuid, new StepResult().setName(stepName));
+            }
+            try {
+                T result = action.get();
+                lifecycle.updateStep(uuid, step -> step.setStatus(Status.PASSED));
+                return result;
+            } catch (Throwable t) {
+                lifecycle.updateStep(uuid, step -> step
+                        .setStatus(ResultsUtils.getStatus(t).orElse(Status.BROKEN))
+                        .setStatusDetails(ResultsUtils.getStatusDetails(t).orElse(null)));
+                throw t;
+            } finally {
+                lifecycle.stopStep(uuid);
+            }
+        }, EXECUTOR);
+    }
+
+    /**
+     * Waits for the future and rethrows its original failure (e.g. an {@link AssertionError}).
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    /**
+     * Waits for every future, then rethrows the first failure with the remaining ones attached as suppressed.
+     */
+    public static <T> List<T> awaitAll(List<CompletableFuture<T>> futures) {
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).exceptionally(t -> null).join();
+
+        List<T> results = new ArrayList<>();
+        Throwable failure = null;
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause();
+                } else {
+                    failure.addSuppressed(e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw rethrow(failure);
+        }
+        return results;
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return new CompletionException(cause);
+    }
+
+    public record SearchWithHistory(Response search, Response history) {
+    }
+}
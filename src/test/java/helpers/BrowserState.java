@@ -0,0 +1,152 @@
+package helpers;
+
+import io.qameta.allure.Step;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.project.DriverPool;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Captures the browser state (cookies, localStorage, sessionStorage) once per run after the cookie banner
+ * was accepted, and seeds every later session with it before its first navigation,
+ * so tests start on an already consented site and never wait for the banner.
+ * Disable with {@code -Dbrowser.state.snapshot=false}.
+ */
+public final class BrowserState {
+
+    private static final Set<WebDriver> SEEDED = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+    private static final Map<WebDriver, String> STORAGE_SCRIPTS = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final Json JSON = new Json();
+
+    private static volatile Snapshot snapshot;
+
+    static {
+        // a pooled browser loses its cookies and storage on release and has to be seeded again
+        DriverPool.onReset(BrowserState::forget);
+    }
+
+    private BrowserState() {
+    }
+
+    public static boolean isSeeded(WebDriver driver) {
+        return SEEDED.contains(driver);
+    }
+
+    @Step("Prepare browser state for {baseUrl}")
+    public static void prepare(WebDriver driver, String baseUrl) {
+        if (!Boolean.parseBoolean(System.getProperty("browser.state.snapshot", "true")) || isSeeded(driver)) {
+            return;
+        }
+        Snapshot current = snapshot;
+        if (current == null || !current.baseUrl().equals(baseUrl)) {
+            synchronized (BrowserState.class) {
+                current = snapshot;
+                if (current == null || !current.baseUrl().equals(baseUrl)) {
+                    snapshot = capture(driver, baseUrl);
+                    SEEDED.add(driver);
+                    return;
+                }
+            }
+        }
+        restore(driver, current);
+        SEEDED.add(driver);
+    }
+
+    @Step("Capture consented browser state")
+    private static Snapshot capture(WebDriver driver, String baseUrl) {
+        driver.get(baseUrl);
+        new PassengerFormHelper(driver, new WebDriverWait(driver, Duration.ofSeconds(10))).acceptCookiesIfPresent(10);
+        new WebDriverWait(driver, Duration.ofSeconds(15)).until(d ->
+                "complete".equals(((JavascriptExecutor) d).executeScript("return document.readyState")));
+
+        return new Snapshot(baseUrl,
+                List.copyOf(driver.manage().getCookies()),
+                readStorage(driver, "localStorage"),
+                readStorage(driver, "sessionStorage"));
+    }
+
+    @Step("Restore browser state snapshot")
+    private static void restore(WebDriver driver, Snapshot state) {
+        if (driver instanceof HasCdp cdp) {
+            // applied by Chrome itself, so the very first page load already sees the state
+            List<Map<String, Object>> cookies = new ArrayList<>();
+            state.cookies().forEach(cookie -> cookies.add(toCdpCookie(cookie)));
+            cdp.executeCdpCommand("Network.setCookies", Map.of("cookies", cookies));
+            Map<String, Object> script = cdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                    Map.of("source", storageScript(state)));
+            STORAGE_SCRIPTS.put(driver, String.valueOf(script.get("identifier")));
+            return;
+        }
+
+        driver.get(state.baseUrl());
+        state.cookies().forEach(cookie -> driver.manage().addCookie(cookie));
+        ((JavascriptExecutor) driver).executeScript(storageScript(state));
+    }
+
+    /**
+     * Undoes the seeding of a browser whose state was cleared: the storage script is removed so it neither
+     * refills the cleared storage nor piles up with the script of the next {@link #prepare}.
+     */
+    private static void forget(WebDriver driver) {
+        SEEDED.remove(driver);
+        String scriptId = STORAGE_SCRIPTS.remove(driver);
+        if (scriptId != null && driver instanceof HasCdp cdp) {
+            cdp.executeCdpCommand("Page.removeScriptToEvaluateOnNewDocument", Map.of("identifier", scriptId));
+        }
+    }
+
+    private static Map<String, String> readStorage(WebDriver driver, String storage) {
+        Object raw = ((JavascriptExecutor) driver).executeScript("return Object.assign({}, window." + storage + ");");
+        Map<String, String> values = new LinkedHashMap<>();
+        if (raw instanceof Map<?, ?> map) {
+            map.forEach((key, value) -> values.put(String.valueOf(key), String.valueOf(value)));
+        }
+        return values;
+    }
+
+    private static String storageScript(Snapshot state) {
+        String host = URI.create(state.baseUrl()).getHost().replaceFirst("^www\\.", "");
+        return """
+                (function (host, local, session) {
+                  if (location.hostname !== host && !location.hostname.endsWith('.' + host)) return;
+                  for (const [k, v] of Object.entries(local)) if (localStorage.getItem(k) === null) localStorage.setItem(k, v);
+                  for (const [k, v] of Object.entries(session)) if (sessionStorage.getItem(k) === null) sessionStorage.setItem(k, v);
+                })(%s, %s, %s);
+                """.formatted(JSON.toJson(host), JSON.toJson(state.localStorage()), JSON.toJson(state.sessionStorage()));
+    }
+
+    private static Map<String, Object> toCdpCookie(Cookie cookie) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("name", cookie.getName());
+        params.put("value", cookie.getValue());
+        params.put("domain", cookie.getDomain());
+        params.put("path", cookie.getPath());
+        params.put("secure", cookie.isSecure());
+        params.put("httpOnly", cookie.isHttpOnly());
+        if (cookie.getExpiry() != null) {
+            params.put("expires", cookie.getExpiry().getTime() / 1000);
+        }
+        if (cookie.getSameSite() != null) {
+            params.put("sameSite", cookie.getSameSite());
+        }
+        return params;
+    }
+
+    private record Snapshot(String baseUrl, List<Cookie> cookies,
+                            Map<String, String> localStorage, Map<String, String> sessionStorage) {
+    }
+}
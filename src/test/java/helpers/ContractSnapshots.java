@@ -0,0 +1,89 @@
+package helpers;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.Step;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Compares the structure of API responses with stored {@link JsonShape} snapshots.
+ * <p>
+ * Snapshots live in {@code -Dcontracts.dir} (default {@code src/test/resources/contracts}) as
+ * {@code <name>.shape}: a {@code # sha256} header followed by the canonical shape. A matching hash is the whole
+ * check; otherwise the snapshot body is read and the check fails only if {@link JsonShape#diff} finds a structural
+ * change, so a response that merely has an empty array or a {@code null} where the snapshot has data still passes.
+ * A missing snapshot skips the check, or fails it with {@code -Dcontracts.required=true}, so a contract that was
+ * never recorded neither passes silently nor fails every run. Snapshots are only written with
+ * {@code -Dcontracts.update=true}, which records missing ones and overwrites existing ones.
+ */
+public class ContractSnapshots {
+
+    private static final String HASH_HEADER = "# sha256 ";
+
+    @Step("Compare response structure with contract snapshot {name}")
+    public static void assertMatchesSnapshot(String name, Response resp, Set<String> mapPaths) {
+        JsonShape actual;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resp.asInputStream(), StandardCharsets.UTF_8))) {
+            actual = JsonShape.read(reader, mapPaths);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        assertMatchesSnapshot(name, actual, Path.of(System.getProperty("contracts.dir", "src/test/resources/contracts")),
+                Boolean.getBoolean("contracts.update"), Boolean.getBoolean("contracts.required"));
+    }
+
+    static void assertMatchesSnapshot(String name, JsonShape actual, Path dir, boolean update, boolean required) {
+        Path file = dir.resolve(name + ".shape");
+        String actualHash = actual.hash();
+        try {
+            if (update) {
+                write(file, actual, actualHash);
+                Allure.addAttachment("Recorded contract snapshot " + name, "text/plain", actual.toCanonicalText(), ".txt");
+                return;
+            }
+            if (!Files.exists(file)) {
+                Allure.addAttachment("Unrecorded contract snapshot " + name, "text/plain", actual.toCanonicalText(), ".txt");
+                String message = String.format("No contract snapshot %s, record it with -Dcontracts.update=true and commit it", file);
+                if (required) {
+                    Assertions.fail(message);
+                }
+                Assumptions.abort(message);
+            }
+
+            String expectedHash;
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                expectedHash = reader.readLine();
+            }
+            if ((HASH_HEADER + actualHash).equals(expectedHash)) {
+                return;
+            }
+
+            List<String> changes = actual.diff(JsonShape.parse(Files.readAllLines(file, StandardCharsets.UTF_8)));
+            if (changes.isEmpty()) {
+                return;
+            }
+            String report = String.join("\n", changes);
+            Allure.addAttachment("Contract drift in " + name, "text/plain", report, ".txt");
+            Assertions.fail(String.format("Response structure of %s differs from %s (%d changes, rerun with -Dcontracts.update=true to accept):%n%s",
+                    name, file, changes.size(), report));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not access contract snapshot " + file, e);
+        }
+    }
+
+    private static void write(Path file, JsonShape shape, String hash) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, HASH_HEADER + hash + "\n" + shape.toCanonicalText(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,66 @@
+package helpers;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opentest4j.AssertionFailedError;
+import org.opentest4j.TestAbortedException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+
+@Tag("unit")
+@Epic("Test framework")
+@Feature("API Contract Verification")
+public class ContractSnapshotsTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @Description("A missing snapshot skips the check, fails it when required and is not written unless updating")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testMissingSnapshot() {
+        TestAbortedException skipped = Assertions.assertThrows(TestAbortedException.class,
+                () -> ContractSnapshots.assertMatchesSnapshot("api", shape("{\"a\": 1}"), dir, false, false));
+        Assertions.assertTrue(skipped.getMessage().contains("-Dcontracts.update=true"), skipped.getMessage());
+
+        AssertionFailedError failed = Assertions.assertThrows(AssertionFailedError.class,
+                () -> ContractSnapshots.assertMatchesSnapshot("api", shape("{\"a\": 1}"), dir, false, true));
+        Assertions.assertTrue(failed.getMessage().contains("-Dcontracts.update=true"), failed.getMessage());
+        Assertions.assertFalse(Files.exists(dir.resolve("api.shape")));
+    }
+
+    @Test
+    @Description("A recorded snapshot passes for the same structure and for data-only differences")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testRecordedSnapshotMatches() throws IOException {
+        ContractSnapshots.assertMatchesSnapshot("api", shape("{\"a\": 1, \"tags\": [\"x\"]}"), dir, true, false);
+        Assertions.assertTrue(Files.readString(dir.resolve("api.shape"), StandardCharsets.UTF_8).startsWith("# sha256 "));
+
+        ContractSnapshots.assertMatchesSnapshot("api", shape("{\"tags\": [\"y\", \"z\"], \"a\": 2}"), dir, false, false);
+        ContractSnapshots.assertMatchesSnapshot("api", shape("{\"a\": null, \"tags\": []}"), dir, false, false);
+    }
+
+    @Test
+    @Description("A structural change fails with the path-level diff")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testDriftFails() {
+        ContractSnapshots.assertMatchesSnapshot("api", shape("{\"a\": 1}"), dir, true, false);
+
+        AssertionFailedError e = Assertions.assertThrows(AssertionFailedError.class,
+                () -> ContractSnapshots.assertMatchesSnapshot("api", shape("{\"a\": \"1\", \"b\": true}"), dir, false, false));
+        Assertions.assertTrue(e.getMessage().contains("+ $.b: boolean"), e.getMessage());
+        Assertions.assertTrue(e.getMessage().contains("~ $.a: number -> string"), e.getMessage());
+    }
+
+    private static JsonShape shape(String json) {
+        return JsonShape.read(new StringReader(json), Set.of());
+    }
+}
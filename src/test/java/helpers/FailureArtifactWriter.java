@@ -0,0 +1,78 @@
+package helpers;
+
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compresses and writes failure artifacts as Allure attachments on background threads.
+ * <p>
+ * The queue is bounded: once it is full the failing test's own thread writes its artifacts,
+ * which slows a cascade of failures down instead of letting pending screenshots pile up in memory.
+ * Closed by JUnit together with the root extension context, which waits for pending writes.
+ */
+public class FailureArtifactWriter implements AutoCloseable {
+
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final AllureLifecycle lifecycle = Allure.getLifecycle();
+    private final ThreadPoolExecutor executor;
+
+    public FailureArtifactWriter() {
+        int threads = Integer.getInteger("failure.artifacts.threads", 2);
+        int queueSize = Integer.getInteger("failure.artifacts.queue", 16);
+        executor = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "failure-artifacts-" + THREAD_COUNTER.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Registers the attachment with the current test or step right away (must be called on the test thread)
+     * and writes its content later.
+     */
+    public void attach(String name, String type, String extension, byte[] content, boolean gzip) {
+        String source = lifecycle.prepareAttachment(name, gzip ? "application/gzip" : type,
+                gzip ? extension + ".gz" : extension);
+        executor.execute(() -> lifecycle.writeAttachment(source,
+                new ByteArrayInputStream(gzip ? gzip(content) : content)));
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(60, TimeUnit.SECONDS)) {
+                System.err.println("Failure artifacts still pending after 60 s: " + executor.getQueue().size());
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static byte[] gzip(byte[] content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, content.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
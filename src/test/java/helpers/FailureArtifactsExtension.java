@@ -0,0 +1,84 @@
+package helpers;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.LifecycleMethodExecutionExceptionHandler;
+import org.junit.jupiter.api.extension.TestExecutionExceptionHandler;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.logging.LogEntry;
+import org.openqa.selenium.logging.LogType;
+import org.project.DriverPool;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.stream.Collectors;
+
+/**
+ * Grabs a screenshot, the DOM and the browser console of the current {@link DriverPool} session
+ * when a test or its set-up fails. Only the raw capture happens on the test thread,
+ * compression and writing are left to {@link FailureArtifactWriter}.
+ */
+public class FailureArtifactsExtension implements TestExecutionExceptionHandler, LifecycleMethodExecutionExceptionHandler {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(FailureArtifactsExtension.class);
+
+    @Override
+    public void handleTestExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        capture(context);
+        throw throwable;
+    }
+
+    @Override
+    public void handleBeforeAllMethodExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        capture(context);
+        throw throwable;
+    }
+
+    @Override
+    public void handleBeforeEachMethodExecutionException(ExtensionContext context, Throwable throwable) throws Throwable {
+        capture(context);
+        throw throwable;
+    }
+
+    private void capture(ExtensionContext context) {
+        WebDriver driver = DriverPool.current();
+        if (driver == null) {
+            return;
+        }
+        boolean gzip = Boolean.parseBoolean(System.getProperty("failure.artifacts.gzip", "true"));
+        FailureArtifactWriter writer = context.getRoot().getStore(NAMESPACE).computeIfAbsent(FailureArtifactWriter.class);
+
+        try {
+            byte[] screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+            // PNG is already deflate-compressed, gzipping it again only costs time
+            writer.attach("Screenshot on failure", "image/png", ".png", screenshot, false);
+        } catch (Exception e) {
+            System.err.println("Could not take failure screenshot: " + e.getMessage());
+        }
+
+        try {
+            String dom = driver.getPageSource();
+            if (dom != null) {
+                writer.attach("DOM on failure", "text/html", ".html", dom.getBytes(StandardCharsets.UTF_8), gzip);
+            }
+        } catch (Exception e) {
+            System.err.println("Could not capture DOM: " + e.getMessage());
+        }
+
+        try {
+            String console = driver.manage().logs().get(LogType.BROWSER).getAll().stream()
+                    .map(FailureArtifactsExtension::format)
+                    .collect(Collectors.joining("\n"));
+            if (!console.isEmpty()) {
+                writer.attach("Browser console on failure", "text/plain", ".log", console.getBytes(StandardCharsets.UTF_8), gzip);
+            }
+        } catch (Exception e) {
+            System.err.println("Could not read browser console: " + e.getMessage());
+        }
+    }
+
+    private static String format(LogEntry entry) {
+        return Instant.ofEpochMilli(entry.getTimestamp()) + " " + entry.getLevel() + " " + entry.getMessage();
+    }
+}
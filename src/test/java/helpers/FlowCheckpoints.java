@@ -0,0 +1,67 @@
+package helpers;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checkpoints of the UI flow running on the current thread: the URL after every step that succeeded,
+ * plus the retries each step needed. {@link PassengerFormHelper} records them, {@link StepRetryExtension}
+ * resets and reports them per test.
+ */
+public final class FlowCheckpoints {
+
+    private static final ThreadLocal<FlowCheckpoints> CURRENT = ThreadLocal.withInitial(FlowCheckpoints::new);
+
+    /**
+     * Retries allowed when no {@code -Dretry.budget.<step>} is given.
+     */
+    private static final Map<String, Integer> DEFAULT_BUDGETS = Map.of(
+            "pickDate", 1,
+            "selectFlexibleFare", 2);
+
+    private final List<Checkpoint> checkpoints = new ArrayList<>();
+    private final Map<String, List<String>> retries = new LinkedHashMap<>();
+
+    public static FlowCheckpoints current() {
+        return CURRENT.get();
+    }
+
+    public static void reset() {
+        CURRENT.remove();
+    }
+
+    public static int budget(String step) {
+        Integer configured = Integer.getInteger("retry.budget." + step);
+        if (configured != null) {
+            return configured;
+        }
+        return DEFAULT_BUDGETS.getOrDefault(step, Integer.getInteger("retry.budget.default", 0));
+    }
+
+    public void record(String step, String url) {
+        checkpoints.add(new Checkpoint(step, url, Instant.now()));
+    }
+
+    public Checkpoint last() {
+        return checkpoints.isEmpty() ? null : checkpoints.get(checkpoints.size() - 1);
+    }
+
+    public void retried(String step, Throwable cause) {
+        retries.computeIfAbsent(step, k -> new ArrayList<>())
+                .add(cause.getClass().getSimpleName() + ": " + String.valueOf(cause.getMessage()).lines().findFirst().orElse(""));
+    }
+
+    public List<Checkpoint> checkpoints() {
+        return List.copyOf(checkpoints);
+    }
+
+    public Map<String, List<String>> retries() {
+        return retries;
+    }
+
+    public record Checkpoint(String step, String url, Instant at) {
+    }
+}
@@ -0,0 +1,178 @@
+package helpers;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonInput;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+/**
+ * Structure of a JSON document without its values: every path mapped to the JSON types seen there.
+ * <p>
+ * Built in one streaming pass. Array elements share the path {@code []}. Objects keyed by ids
+ * (numbers, UUIDs, long hex strings) or listed as map paths share the path {@code *},
+ * so {@code legs."1"} and {@code legs."2"} collapse to {@code legs.*}.
+ * <p>
+ * Whether a value is {@code null} or an array is empty depends on the data, so neither adds a type:
+ * a {@code null} field and the elements of an empty array (or map path) are recorded with the unknown
+ * type {@code ?}. {@link #diff} treats an unknown path as compatible with any type and ignores everything
+ * below it, so {@code children_age: []} and {@code children_age: [7]} have no structural difference.
+ */
+public final class JsonShape {
+
+    private static final Json JSON = new Json();
+    private static final Pattern ID_KEY = Pattern.compile("\\d+|[0-9a-fA-F-]{16,}");
+    private static final String UNKNOWN = "?";
+
+    private final Map<String, Set<String>> types;
+
+    private JsonShape(Map<String, Set<String>> types) {
+        this.types = types;
+    }
+
+    /**
+     * @param mapPaths paths of objects whose keys are data rather than field names, e.g. {@code $.trains}
+     */
+    public static JsonShape read(Reader reader, Set<String> mapPaths) {
+        Map<String, Set<String>> types = new TreeMap<>();
+        try (JsonInput in = JSON.newInput(reader)) {
+            walk(in, "$", mapPaths, types);
+        }
+        return new JsonShape(types);
+    }
+
+    /**
+     * Parses the canonical text written by {@link #toCanonicalText()}.
+     */
+    public static JsonShape parse(List<String> lines) {
+        Map<String, Set<String>> types = new TreeMap<>();
+        for (String line : lines) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            int separator = line.lastIndexOf(": ");
+            String pathTypes = line.substring(separator + 2);
+            types.put(line.substring(0, separator),
+                    pathTypes.equals(UNKNOWN) ? new TreeSet<>() : new TreeSet<>(List.of(pathTypes.split("\\|"))));
+        }
+        return new JsonShape(types);
+    }
+
+    public String toCanonicalText() {
+        StringBuilder sb = new StringBuilder();
+        types.forEach((path, pathTypes) -> sb.append(path).append(": ").append(render(pathTypes)).append('\n'));
+        return sb.toString();
+    }
+
+    public String hash() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(toCanonicalText().getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Lists added and removed paths and paths whose types changed, compared to {@code expected}.
+     * Unknown types match anything, and paths below a path that is unknown on the other side are skipped.
+     */
+    public List<String> diff(JsonShape expected) {
+        List<String> changes = new ArrayList<>();
+        Set<String> paths = new TreeSet<>(types.keySet());
+        paths.addAll(expected.types.keySet());
+        for (String path : paths) {
+            Set<String> before = expected.types.get(path);
+            Set<String> now = types.get(path);
+            if (before == null) {
+                if (!expected.isBelowUnknown(path)) {
+                    changes.add("+ " + path + ": " + render(now));
+                }
+            } else if (now == null) {
+                if (!isBelowUnknown(path)) {
+                    changes.add("- " + path + ": " + render(before));
+                }
+            } else if (!before.isEmpty() && !now.isEmpty() && !before.equals(now)) {
+                changes.add("~ " + path + ": " + render(before) + " -> " + render(now));
+            }
+        }
+        return changes;
+    }
+
+    private boolean isBelowUnknown(String path) {
+        for (Map.Entry<String, Set<String>> entry : types.entrySet()) {
+            String ancestor = entry.getKey();
+            if (entry.getValue().isEmpty() && (path.startsWith(ancestor + ".") || path.startsWith(ancestor + "[]"))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String render(Set<String> pathTypes) {
+        return pathTypes.isEmpty() ? UNKNOWN : String.join("|", pathTypes);
+    }
+
+    private static void walk(JsonInput in, String path, Set<String> mapPaths, Map<String, Set<String>> types) {
+        switch (in.peek()) {
+            case START_MAP -> {
+                add(types, path, "object");
+                boolean map = mapPaths.contains(path);
+                boolean empty = true;
+                in.beginObject();
+                while (in.hasNext()) {
+                    empty = false;
+                    String name = in.nextName();
+                    String segment = map || ID_KEY.matcher(name).matches() ? "*" : name;
+                    walk(in, path + "." + segment, mapPaths, types);
+                }
+                in.endObject();
+                if (map && empty) {
+                    types.computeIfAbsent(path + ".*", k -> new TreeSet<>());
+                }
+            }
+            case START_COLLECTION -> {
+                add(types, path, "array");
+                in.beginArray();
+                if (!in.hasNext()) {
+                    types.computeIfAbsent(path + "[]", k -> new TreeSet<>());
+                }
+                while (in.hasNext()) {
+                    walk(in, path + "[]", mapPaths, types);
+                }
+                in.endArray();
+            }
+            case STRING -> {
+                in.nextString();
+                add(types, path, "string");
+            }
+            case NUMBER -> {
+                in.nextNumber();
+                add(types, path, "number");
+            }
+            case BOOLEAN -> {
+                in.nextBoolean();
+                add(types, path, "boolean");
+            }
+            case NULL -> {
+                in.nextNull();
+                types.computeIfAbsent(path, k -> new TreeSet<>());
+            }
+            default -> throw new IllegalStateException("Unexpected JSON token " + in.peek() + " at " + path);
+        }
+    }
+
+    private static void add(Map<String, Set<String>> types, String path, String type) {
+        types.computeIfAbsent(path, k -> new TreeSet<>()).add(type);
+    }
+}
@@ -0,0 +1,116 @@
+package helpers;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.Set;
+
+@Tag("unit")
+@Epic("Test framework")
+@Feature("API Contract Verification")
+public class JsonShapeTest {
+
+    private static final String TIMETABLE = """
+            {
+              "departure_station": {"single_name": "Mecca", "code": null},
+              "trains": {
+                "T1": {"departure_datetime": "2025-11-05 08:00", "price": 10.5, "tags": ["fast"], "discount": null},
+                "T2": {"departure_datetime": "2025-11-05 09:00", "price": 12, "tags": [], "discount": {"amount": 1}}
+              },
+              "legs": {"1": {"departure_date": "05.11.2025"}, "2": {"departure_date": "06.11.2025"}},
+              "passengers": {"children_age": [], "direct": true}
+            }
+            """;
+
+    @Test
+    @Description("Values are dropped, array elements share [] and id keys or map paths share *")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testReadCanonicalText() {
+        Assertions.assertEquals("""
+                $: object
+                $.departure_station: object
+                $.departure_station.code: ?
+                $.departure_station.single_name: string
+                $.legs: object
+                $.legs.*: object
+                $.legs.*.departure_date: string
+                $.passengers: object
+                $.passengers.children_age: array
+                $.passengers.children_age[]: ?
+                $.passengers.direct: boolean
+                $.trains: object
+                $.trains.*: object
+                $.trains.*.departure_datetime: string
+                $.trains.*.discount: object
+                $.trains.*.discount.amount: number
+                $.trains.*.price: number
+                $.trains.*.tags: array
+                $.trains.*.tags[]: string
+                """, read(TIMETABLE).toCanonicalText());
+    }
+
+    @Test
+    @Description("The canonical text parses back to the same shape and hash")
+    @Severity(SeverityLevel.NORMAL)
+    public void testParseRoundTrip() {
+        JsonShape shape = read(TIMETABLE);
+        JsonShape parsed = JsonShape.parse(List.of(("# sha256 x\n" + shape.toCanonicalText()).split("\n")));
+
+        Assertions.assertEquals(shape.toCanonicalText(), parsed.toCanonicalText());
+        Assertions.assertEquals(shape.hash(), parsed.hash());
+        Assertions.assertEquals(List.of(), shape.diff(parsed));
+    }
+
+    @Test
+    @Description("Different values and key order give the same hash")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testHashIgnoresValues() {
+        JsonShape a = read("""
+                {"trains": {"T9": {"price": 1, "departure_datetime": "x"}}, "id": 5}""");
+        JsonShape b = read("""
+                {"id": 700, "trains": {"A": {"departure_datetime": "y", "price": 2.75}, "B": {"price": 3, "departure_datetime": "z"}}}""");
+
+        Assertions.assertEquals(a.hash(), b.hash());
+        Assertions.assertEquals(64, a.hash().length());
+    }
+
+    @Test
+    @Description("Nulls and empty arrays are compatible with any type and hide nothing but data")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testDiffIgnoresDataDependentDifferences() {
+        JsonShape empty = read("""
+                {"passengers": {"children_age": []}, "note": null, "trains": {}}""");
+        JsonShape filled = read("""
+                {"passengers": {"children_age": [7]}, "note": "late", "trains": {"T1": {"price": 3, "seats": [{"car": 1}]}}}""");
+        JsonShape mixed = read("""
+                {"passengers": {"children_age": [7]}, "note": "late", "trains": {"T1": {"price": 3, "seats": []}, "T2": {"price": null, "seats": [{"car": 2}]}}}""");
+
+        Assertions.assertEquals(List.of(), filled.diff(empty));
+        Assertions.assertEquals(List.of(), empty.diff(filled));
+        Assertions.assertEquals(filled.toCanonicalText(), mixed.toCanonicalText());
+    }
+
+    @Test
+    @Description("Added, removed and retyped paths are reported")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testDiffReportsStructuralChanges() {
+        JsonShape expected = read("""
+                {"price": 1, "name": "a", "legs": [{"from": "x"}]}""");
+        JsonShape actual = read("""
+                {"price": "1.00", "legs": [{"from": "x", "to": "y"}], "currency": "EUR"}""");
+
+        Assertions.assertEquals(List.of(
+                "+ $.currency: string",
+                "+ $.legs[].to: string",
+                "- $.name: string",
+                "~ $.price: number -> string"), actual.diff(expected));
+    }
+
+    private static JsonShape read(String json) {
+        return JsonShape.read(new StringReader(json), Set.of("$.trains"));
+    }
+}
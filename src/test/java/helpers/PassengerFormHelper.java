@@ -1,21 +1,25 @@
 package helpers;
 
+import helpers.pages.TimetablePage;
 import io.qameta.allure.Step;
 import org.openqa.selenium.*;
+import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.TextStyle;
-import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class PassengerFormHelper {
+    private static final By PASSENGER_FORM = By.id("checkout-passengers-form");
+    private static final Map<String, String> PASSENGER_FORM_URLS = new ConcurrentHashMap<>();
+
     private final WebDriver DRIVER;
     private final WebDriverWait WAIT;
 
@@ -26,11 +30,64 @@ public class PassengerFormHelper {
 
     @Step("Open passenger form: from {departureStation} to {arrivalStation} on {date}")
     public void openPassengerForm(String departureStation, String arrivalStation, LocalDate date) throws InterruptedException {
-        acceptCookiesIfPresent(2);
-        enterStation("departure_station", departureStation);
-        enterStation("arrival_station", arrivalStation);
-        pickDate(date);
+        String cacheKey = departureStation + "|" + arrivalStation + "|" + date;
+        boolean resume = Boolean.getBoolean("passengerForm.resume");
+        if (resume && resumePassengerForm(cacheKey)) {
+            return;
+        }
+
+        FlowCheckpoints.current().record("start", DRIVER.getCurrentUrl());
+        if (!BrowserState.isSeeded(DRIVER)) {
+            acceptCookiesIfPresent(2);
+        }
+        runStep("enterStation", () -> enterStation("departure_station", departureStation));
+        runStep("enterStation", () -> enterStation("arrival_station", arrivalStation));
+        runStep("pickDate", () -> pickDate(date));
+        runStep("submitSearch", this::submitSearch);
+        runStep("selectFlexibleFare", () -> new TimetablePage(DRIVER, new WebDriverWait(DRIVER, Duration.ofSeconds(15))).selectFlexibleFare());
+
+        if (resume) {
+            WAIT.until(ExpectedConditions.presenceOfElementLocated(PASSENGER_FORM));
+            PASSENGER_FORM_URLS.put(cacheKey, DRIVER.getCurrentUrl());
+        }
+    }
 
+    /**
+     * Runs a step of the flow and checkpoints the URL it ended on. A failed step is retried up to
+     * {@link FlowCheckpoints#budget} times, each time from the last checkpoint rather than from the start.
+     */
+    private void runStep(String name, FlowStep step) throws InterruptedException {
+        FlowCheckpoints checkpoints = FlowCheckpoints.current();
+        int budget = FlowCheckpoints.budget(name);
+        for (int attempt = 0; ; attempt++) {
+            try {
+                step.run();
+                checkpoints.record(name, DRIVER.getCurrentUrl());
+                return;
+            } catch (RuntimeException | AssertionError e) {
+                if (attempt >= budget) {
+                    throw e;
+                }
+                checkpoints.retried(name, e);
+                restoreCheckpoint(checkpoints.last());
+            }
+        }
+    }
+
+    @Step("Restore last good checkpoint")
+    private void restoreCheckpoint(FlowCheckpoints.Checkpoint checkpoint) {
+        try {
+            // closes a picker or dropdown the failed attempt left open
+            new Actions(DRIVER).sendKeys(Keys.ESCAPE).perform();
+        } catch (WebDriverException ignored) {
+        }
+        if (checkpoint != null && !checkpoint.url().equals(DRIVER.getCurrentUrl())) {
+            DRIVER.get(checkpoint.url());
+        }
+    }
+
+    @Step("Submit search and wait for timetable")
+    private void submitSearch() {
         WebElement searchButton = WAIT.until(ExpectedConditions.elementToBeClickable(
                 By.xpath("//button[contains(.,'Search') or @type='submit']")));
         ((JavascriptExecutor) DRIVER).executeScript("arguments[0].scrollIntoView({block:'center'});", searchButton);
@@ -58,12 +115,26 @@ public class PassengerFormHelper {
             assert url != null;
             return url.contains("/trains/order/timetable") || url.contains("/v9/trains/order/timetable");
         });
+    }
 
-        selectFlexibleFare(DRIVER);
+    @Step("Resume passenger form from cached URL")
+    private boolean resumePassengerForm(String cacheKey) {
+        String url = PASSENGER_FORM_URLS.get(cacheKey);
+        if (url == null) {
+            return false;
+        }
+        DRIVER.get(url);
+        try {
+            WAIT.until(ExpectedConditions.presenceOfElementLocated(PASSENGER_FORM));
+            return true;
+        } catch (TimeoutException e) {
+            PASSENGER_FORM_URLS.remove(cacheKey);
+            return false;
+        }
     }
 
     @Step("Accept cookies if present")
-    private void acceptCookiesIfPresent(long timeoutSeconds) {
+    void acceptCookiesIfPresent(long timeoutSeconds) {
         try {
             new WebDriverWait(DRIVER, Duration.ofSeconds(timeoutSeconds)).until(
                     ExpectedConditions.elementToBeClickable(
@@ -90,7 +161,9 @@ public class PassengerFormHelper {
             suggestion.click();
             return;
         } catch (TimeoutException e) {
-            acceptCookiesIfPresent(3);
+            if (!BrowserState.isSeeded(DRIVER)) {
+                acceptCookiesIfPresent(3);
+            }
         }
 
         try {
@@ -141,73 +214,8 @@ public class PassengerFormHelper {
         dayCell.click();
     }
 
-    @Step("Select first visible element")
-    private WebElement findFirstVisible(By locator) {
-        List<WebElement> elements = WAIT.until(ExpectedConditions.presenceOfAllElementsLocatedBy(locator));
-        return elements.stream().filter(WebElement::isDisplayed).findFirst().orElse(null);
-    }
-
-    @Step("Select flexible fare on timetable page")
-    private void selectFlexibleFare(WebDriver driver) throws InterruptedException {
-        WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(15));
-
-        wait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
-
-        String currentUrl = driver.getCurrentUrl();
-
-        assert currentUrl != null;
-        if (currentUrl.contains("/v9/trains/order/timetable")) {
-            By bulletTrainLocator = By.xpath("//div[.//span[translate(normalize-space(.),'abcdefghijklmnopqrstuvwxyz','ABCDEFGHIJKLMNOPQRSTUVWXYZ')='BULLET TRAIN']]");
-            wait.until(ExpectedConditions.visibilityOfElementLocated(bulletTrainLocator));
-            WebElement firstTrainCard = driver.findElement(bulletTrainLocator);
-
-            WebElement expandButton = firstTrainCard.findElement(
-                    By.xpath(".//button[@data-variant='tertiary']")
-            );
-
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView(true);", expandButton);
-            Thread.sleep(500); // tiny delay for animations
-            ((JavascriptExecutor) driver).executeScript("arguments[0].click();", expandButton);
-
-            WebElement flexibleFareBtn = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.cssSelector("button[data-fare-name='Flexible']")
-            ));
-            flexibleFareBtn.click();
-
-            WebElement continueBtn = wait.until(ExpectedConditions.elementToBeClickable(
-                    By.cssSelector("button[data-variant='primary']")
-            ));
-            continueBtn.click();
-
-        } else if (currentUrl.contains("/trains/order/timetable")) {
-
-            WebElement seatButton = findFirstVisible(By.xpath("//button[contains(.,'Select Seats')]"));
-            assertNotNull(seatButton, "No visible 'Select Seats' button found");
-            ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block:'center'});", seatButton);
-            wait.until(ExpectedConditions.elementToBeClickable(seatButton));
-            seatButton.click();
-
-            List<WebElement> fares = wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(
-                    By.xpath("//div[@data-fare-name='Flexible']")
-            ));
-
-            boolean clicked = false;
-            for (WebElement fare : fares) {
-                try {
-                    WebElement button = fare.findElement(By.tagName("button"));
-                    wait.until(ExpectedConditions.elementToBeClickable(button));
-                    button.click();
-                    clicked = true;
-                    break;
-                } catch (Exception ignored) {
-                }
-            }
-
-            if (!clicked) {
-                throw new RuntimeException("No clickable Flexible fare button found in old layout!");
-            }
-        } else {
-            throw new RuntimeException("Unknown page layout: " + currentUrl);
-        }
+    @FunctionalInterface
+    private interface FlowStep {
+        void run() throws InterruptedException;
     }
 }
@@ -0,0 +1,97 @@
+package helpers;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded HTTP server for the offline replica of the rail.ninja UI flow.
+ * <p>
+ * Serves static snapshots of the homepage, both timetable layouts and the checkout passenger form
+ * from {@code src/test/resources/replica}. They keep the element ids and classes {@link PassengerFormHelper}
+ * and the UI tests rely on. The homepage search leads to the v9 timetable unless
+ * {@code -Dreplica.layout=classic} is set.
+ */
+public final class ReplicaServer {
+
+    private static final Map<String, String> PAGES = Map.of(
+            "/", "index.html",
+            "/trains/order/timetable", "timetable.html",
+            "/v9/trains/order/timetable", "timetable-v9.html",
+            "/checkout/passengers", "passengers.html",
+            "/checkout/payment", "payment.html",
+            "/assets/replica.css", "replica.css");
+
+    private static HttpServer server;
+
+    private ReplicaServer() {
+    }
+
+    /**
+     * Starts the server on a free loopback port the first time it is called.
+     *
+     * @return base URL ending with a slash, like the live {@code https://rail.ninja/}
+     */
+    public static synchronized String start() {
+        if (server == null) {
+            try {
+                server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start replica server", e);
+            }
+            server.createContext("/", ReplicaServer::handle);
+            server.setExecutor(Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "replica-server");
+                thread.setDaemon(true);
+                return thread;
+            }));
+            server.start();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(0)));
+        }
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort() + "/";
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String page = PAGES.get(exchange.getRequestURI().getPath());
+            if (page == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+
+            byte[] body = read(page);
+            if (page.equals("index.html")) {
+                String timetablePath = "classic".equals(System.getProperty("replica.layout"))
+                        ? "/trains/order/timetable" : "/v9/trains/order/timetable";
+                body = new String(body, StandardCharsets.UTF_8)
+                        .replace("__TIMETABLE_PATH__", timetablePath)
+                        .getBytes(StandardCharsets.UTF_8);
+            }
+
+            String contentType = page.endsWith(".css") ? "text/css; charset=utf-8" : "text/html; charset=utf-8";
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static byte[] read(String page) throws IOException {
+        try (InputStream in = ReplicaServer.class.getResourceAsStream("/replica/" + page)) {
+            if (in == null) {
+                throw new IOException("Missing replica resource: " + page);
+            }
+            return in.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package helpers;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.TypeToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Route/date/passenger combinations for the timetable sweep, read from CSV or JSON.
+ * <p>
+ * The source is {@code -Dsweep.routes=<file>} or the bundled {@code routes/timetable-routes.csv}.
+ * CSV columns: {@code departure_name,departure_station,arrival_name,arrival_station,departure_date,adults,children,children_age}
+ * with children ages separated by {@code ;}. JSON is an array of objects with the same keys.
+ */
+public final class RouteMatrix {
+
+    public static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+
+    private static final Json JSON = new Json();
+    private static final Type ROWS = new TypeToken<List<Map<String, Object>>>() {
+    }.getType();
+
+    private RouteMatrix() {
+    }
+
+    public static List<Route> load() {
+        String file = System.getProperty("sweep.routes");
+        try {
+            if (file != null && !file.isBlank()) {
+                return parse(file, Files.readString(Path.of(file), StandardCharsets.UTF_8));
+            }
+            try (InputStream in = RouteMatrix.class.getResourceAsStream("/routes/timetable-routes.csv")) {
+                if (in == null) {
+                    throw new IllegalStateException("Bundled route matrix routes/timetable-routes.csv is missing");
+                }
+                return parse("timetable-routes.csv", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read route matrix " + file, e);
+        }
+    }
+
+    static List<Route> parse(String name, String content) {
+        List<Map<String, Object>> rows = name.toLowerCase().endsWith(".json") ? JSON.toType(content, ROWS) : csvRows(content);
+        List<Route> routes = new ArrayList<>();
+        for (Map<String, Object> row : rows) {
+            routes.add(new Route(
+                    text(row, "departure_name"),
+                    text(row, "departure_station"),
+                    text(row, "arrival_name"),
+                    text(row, "arrival_station"),
+                    LocalDate.parse(text(row, "departure_date"), DATE_FORMAT),
+                    Integer.parseInt(text(row, "adults")),
+                    Integer.parseInt(text(row, "children")),
+                    ages(row.get("children_age"))));
+        }
+        return routes;
+    }
+
+    private static List<Map<String, Object>> csvRows(String content) {
+        List<String> lines = content.lines().map(String::trim).filter(l -> !l.isEmpty() && !l.startsWith("#")).toList();
+        if (lines.isEmpty()) {
+            return List.of();
+        }
+        String[] header = lines.get(0).split(",", -1);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (String line : lines.subList(1, lines.size())) {
+            String[] cells = line.split(",", -1);
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < header.length; i++) {
+                row.put(header[i].trim(), i < cells.length ? cells[i].trim() : "");
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    private static String text(Map<String, Object> row, String key) {
+        Object value = row.get(key);
+        if (value == null || value.toString().isBlank()) {
+            throw new IllegalArgumentException("Route matrix row " + row + " has no " + key);
+        }
+        // JSON numbers arrive as Long/Double, CSV cells as strings
+        return value instanceof Number number ? String.valueOf(number.longValue()) : value.toString().trim();
+    }
+
+    private static List<Integer> ages(Object value) {
+        if (value instanceof List<?> list) {
+            return list.stream().map(age -> ((Number) age).intValue()).toList();
+        }
+        if (value == null || value.toString().isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(value.toString().split(";")).map(String::trim).map(Integer::valueOf).toList();
+    }
+
+    public record Route(String departureName, String departureStation, String arrivalName, String arrivalStation,
+                        LocalDate departureDate, int adults, int children, List<Integer> childrenAges) {
+
+        public String requestBody() {
+            Map<String, Object> passengers = new LinkedHashMap<>();
+            passengers.put("adults", adults);
+            passengers.put("children", children);
+            passengers.put("children_age", childrenAges);
+
+            Map<String, Object> leg = new LinkedHashMap<>();
+            leg.put("departure_station", departureStation);
+            leg.put("arrival_station", arrivalStation);
+            leg.put("departure_date", departureDate.format(DATE_FORMAT));
+
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("passengers", passengers);
+            body.put("legs", Map.of("1", leg));
+            return JSON.toJson(body);
+        }
+
+        @Override
+        public String toString() {
+            return departureName + " -> " + arrivalName + " on " + departureDate.format(DATE_FORMAT)
+                    + " (" + adults + " adults, " + children + " children)";
+        }
+    }
+}
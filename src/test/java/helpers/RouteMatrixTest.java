@@ -0,0 +1,72 @@
+package helpers;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openqa.selenium.json.Json;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Tag("unit")
+@Epic("Timetable API Tests")
+@Feature("Route matrix sweep")
+public class RouteMatrixTest {
+
+    private static final RouteMatrix.Route WITH_CHILDREN = new RouteMatrix.Route("Mecca", "a-1", "Medina", "b-2",
+            LocalDate.of(2025, 11, 6), 2, 2, List.of(7, 12));
+
+    @Test
+    @Description("CSV rows are parsed with comments, blank lines, empty and ;-separated children ages")
+    @Severity(SeverityLevel.NORMAL)
+    public void testParseCsv() {
+        String csv = """
+                departure_name,departure_station,arrival_name,arrival_station,departure_date,adults,children,children_age
+                # comment
+
+                Mecca,a-1,Medina,b-2,06.11.2025,2,2,7; 12
+                Medina,b-2,Mecca,a-1,07.11.2025,1,0,
+                """;
+
+        List<RouteMatrix.Route> routes = RouteMatrix.parse("routes.csv", csv);
+
+        Assertions.assertEquals(2, routes.size());
+        Assertions.assertEquals(WITH_CHILDREN, routes.get(0));
+        Assertions.assertEquals(List.of(), routes.get(1).childrenAges());
+    }
+
+    @Test
+    @Description("JSON rows accept numbers and arrays where CSV has strings")
+    @Severity(SeverityLevel.NORMAL)
+    public void testParseJson() {
+        String json = """
+                [{"departure_name": "Mecca", "departure_station": "a-1", "arrival_name": "Medina", "arrival_station": "b-2",
+                  "departure_date": "06.11.2025", "adults": 2, "children": "2", "children_age": [7, 12]}]
+                """;
+
+        Assertions.assertEquals(List.of(WITH_CHILDREN), RouteMatrix.parse("routes.JSON", json));
+    }
+
+    @Test
+    @Description("A row without a required column is rejected with the row in the message")
+    @Severity(SeverityLevel.MINOR)
+    public void testMissingColumnIsRejected() {
+        String csv = "departure_name,departure_station,arrival_name,arrival_station,departure_date,adults\n"
+                + "Mecca,a-1,Medina,b-2,06.11.2025,1\n";
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> RouteMatrix.parse("routes.csv", csv));
+        Assertions.assertTrue(e.getMessage().endsWith("has no children"), e.getMessage());
+    }
+
+    @Test
+    @Description("The request body has the shape TimetableApiTest posts")
+    @Severity(SeverityLevel.NORMAL)
+    public void testRequestBody() {
+        Map<?, ?> body = new Json().toType(WITH_CHILDREN.requestBody(), Map.class);
+        Assertions.assertEquals(Map.of("adults", 2L, "children", 2L, "children_age", List.of(7L, 12L)), body.get("passengers"));
+        Assertions.assertEquals(Map.of("1", Map.of("departure_station", "a-1", "arrival_station", "b-2",
+                "departure_date", "06.11.2025")), body.get("legs"));
+    }
+}
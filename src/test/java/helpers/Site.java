@@ -0,0 +1,25 @@
+package helpers;
+
+/**
+ * Base URL the UI tests open: the live site by default, the offline replica with {@code -Dsite=replica},
+ * or any other deployment with {@code -Dsite.url=...}.
+ */
+public final class Site {
+
+    public static final String LIVE_URL = "https://rail.ninja/";
+
+    private Site() {
+    }
+
+    public static String baseUrl() {
+        String url = System.getProperty("site.url");
+        if (url != null && !url.isBlank()) {
+            return url.endsWith("/") ? url : url + "/";
+        }
+        return isReplica() ? ReplicaServer.start() : LIVE_URL;
+    }
+
+    public static boolean isReplica() {
+        return "replica".equalsIgnoreCase(System.getProperty("site", "live"));
+    }
+}
@@ -0,0 +1,42 @@
+package helpers;
+
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scopes {@link FlowCheckpoints} to a test and reports the steps that only passed after a retry:
+ * an Allure attachment listing them and a {@code step-retried} tag to filter on.
+ * Retry budgets are set per step with {@code -Dretry.budget.<step>=<n>}.
+ */
+public class StepRetryExtension implements BeforeAllCallback, AfterEachCallback {
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        FlowCheckpoints.reset();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        FlowCheckpoints checkpoints = FlowCheckpoints.current();
+        Map<String, List<String>> retries = checkpoints.retries();
+        if (!retries.isEmpty()) {
+            StringBuilder report = new StringBuilder();
+            retries.forEach((step, causes) -> {
+                report.append(step).append(": ").append(causes.size()).append(" retr").append(causes.size() == 1 ? "y" : "ies").append('\n');
+                causes.forEach(cause -> report.append("    ").append(cause).append('\n'));
+            });
+            report.append("\nCheckpoints:\n");
+            checkpoints.checkpoints().forEach(c -> report.append("    ").append(c.at()).append("  ")
+                    .append(c.step()).append("  ").append(c.url()).append('\n'));
+
+            Allure.label("tag", "step-retried");
+            Allure.addAttachment("Step retries", "text/plain", report.toString(), ".txt");
+        }
+        FlowCheckpoints.reset();
+    }
+}
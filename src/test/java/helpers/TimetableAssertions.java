@@ -0,0 +1,53 @@
+package helpers;
+
+import io.restassured.path.json.JsonPath;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Assertions;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Map;
+
+public class TimetableAssertions {
+
+    /**
+     * Checks that a {@code /api/v2/timetable} response is JSON, names the expected stations at the top level
+     * and that every train runs between them on the expected date.
+     */
+    public static void assertTrainsMatch(Response resp, String expectedDep, String expectedArr, LocalDate expectedDate) {
+        Assertions.assertEquals(200, resp.getStatusCode(), "Unexpected status code");
+
+        String ct = resp.getContentType();
+        Assertions.assertNotNull(ct, "Content-Type header is missing");
+        Assertions.assertTrue(ct.toLowerCase().startsWith("application/json"), "Content-Type should start with 'application/json' but was: " + ct);
+
+        JsonPath json = resp.jsonPath();
+
+        String topDep = json.getString("departure_station.single_name");
+        String topArr = json.getString("arrival_station.single_name");
+        Assertions.assertEquals(expectedDep, topDep, "Top-level departure_station.single_name mismatch");
+        Assertions.assertEquals(expectedArr, topArr, "Top-level arrival_station.single_name mismatch");
+
+        Map<String, ?> trains = json.getMap("trains");
+        Assertions.assertNotNull(trains, "Response must contain 'trains' object");
+        Assertions.assertFalse(trains.isEmpty(), "Trains map must not be empty");
+
+        for (String trainKey : trains.keySet()) {
+            String depName = json.getString("trains." + trainKey + ".departure_station.single_name");
+            String arrName = json.getString("trains." + trainKey + ".arrival_station.single_name");
+            String departureDatetime = json.getString("trains." + trainKey + ".departure_datetime");
+
+            Assertions.assertNotNull(depName, String.format("Train %s: departure_station.single_name is null", trainKey));
+            Assertions.assertNotNull(arrName, String.format("Train %s: arrival_station.single_name is null", trainKey));
+            Assertions.assertNotNull(departureDatetime, String.format("Train %s: departure_datetime is null", trainKey));
+
+            Assertions.assertTrue(depName.startsWith(expectedDep), String.format("Train %s: expected departure station '%s' but was '%s'", trainKey, expectedDep, depName));
+            Assertions.assertTrue(arrName.startsWith(expectedArr), String.format("Train %s: expected arrival station '%s' but was '%s'", trainKey, expectedArr, arrName));
+
+            OffsetDateTime odt = OffsetDateTime.parse(departureDatetime);
+            LocalDate actualDate = odt.toLocalDate();
+            Assertions.assertEquals(expectedDate, actualDate, String.format("Train %s: expected departure date %s but was %s",
+                    trainKey, expectedDate, actualDate));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package helpers.pages;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-thread counters of {@link ElementHandle} uses: hits served from the cache, lookups of elements
+ * not resolved yet, and refreshes after a stale element.
+ */
+public final class ElementCache {
+
+    private static final ThreadLocal<Map<String, Counts>> STATS = ThreadLocal.withInitial(LinkedHashMap::new);
+
+    private ElementCache() {
+    }
+
+    static void hit(String handle) {
+        counts(handle).hits++;
+    }
+
+    static void miss(String handle) {
+        counts(handle).lookups++;
+    }
+
+    static void refresh(String handle) {
+        counts(handle).refreshes++;
+    }
+
+    public static boolean isEmpty() {
+        return STATS.get().isEmpty();
+    }
+
+    public static void reset() {
+        STATS.remove();
+    }
+
+    public static String report() {
+        Map<String, Counts> stats = STATS.get();
+        long hits = stats.values().stream().mapToLong(c -> c.hits).sum();
+        long lookups = stats.values().stream().mapToLong(c -> c.lookups).sum();
+        long refreshes = stats.values().stream().mapToLong(c -> c.refreshes).sum();
+
+        StringBuilder sb = new StringBuilder(String.format("%d hits, %d lookups, %d refreshes, hit rate %s%n%n",
+                hits, lookups, refreshes, hitRate(hits, lookups, refreshes)));
+        sb.append(String.format("%-50s %6s %8s %10s %9s%n", "Handle", "Hits", "Lookups", "Refreshes", "Hit rate"));
+        stats.forEach((handle, c) -> sb.append(String.format("%-50s %6d %8d %10d %9s%n",
+                handle, c.hits, c.lookups, c.refreshes, hitRate(c.hits, c.lookups, c.refreshes))));
+        return sb.toString();
+    }
+
+    private static String hitRate(long hits, long lookups, long refreshes) {
+        long uses = hits + lookups + refreshes;
+        return uses == 0 ? "-" : String.format("%.1f%%", 100.0 * hits / uses);
+    }
+
+    private static Counts counts(String handle) {
+        return STATS.get().computeIfAbsent(handle, k -> new Counts());
+    }
+
+    private static final class Counts {
+        long hits;
+        long lookups;
+        long refreshes;
+    }
+}
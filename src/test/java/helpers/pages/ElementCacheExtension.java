@@ -0,0 +1,25 @@
+package helpers.pages;
+
+import io.qameta.allure.Allure;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+/**
+ * Attaches the {@link ElementCache} hit rates of each test to its Allure result.
+ */
+public class ElementCacheExtension implements BeforeAllCallback, AfterEachCallback {
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        ElementCache.reset();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        if (!ElementCache.isEmpty()) {
+            Allure.addAttachment("Element cache", "text/plain", ElementCache.report(), ".txt");
+        }
+        ElementCache.reset();
+    }
+}
@@ -0,0 +1,121 @@
+package helpers.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Lazily resolved, cached {@link WebElement}. The first use looks the element up, later uses reuse it;
+ * it is looked up again only when the cached element throws {@link StaleElementReferenceException}.
+ * Every use is counted in {@link ElementCache}.
+ */
+public final class ElementHandle {
+
+    private final String name;
+    private final WebDriverWait wait;
+    private final Supplier<WebElement> resolver;
+    private WebElement element;
+
+    private ElementHandle(String name, WebDriverWait wait, Supplier<WebElement> resolver) {
+        this.name = name;
+        this.wait = wait;
+        this.resolver = resolver;
+    }
+
+    /**
+     * Handle resolved by waiting for {@code locator} to be present.
+     */
+    public static ElementHandle located(String name, WebDriverWait wait, By locator) {
+        return new ElementHandle(name, wait, () -> wait.until(ExpectedConditions.presenceOfElementLocated(locator)));
+    }
+
+    /**
+     * Handle resolved by an arbitrary lookup, e.g. the first visible of several matches.
+     */
+    public static ElementHandle resolvedBy(String name, WebDriverWait wait, Supplier<WebElement> resolver) {
+        return new ElementHandle(name, wait, resolver);
+    }
+
+    /**
+     * Handle for an element inside this one; a stale parent is refreshed before the child is looked up.
+     */
+    public ElementHandle child(String childName, By locator) {
+        return new ElementHandle(name + "/" + childName, wait, () -> apply(parent -> parent.findElement(locator)));
+    }
+
+    public WebElement get() {
+        if (element == null) {
+            ElementCache.miss(name);
+            element = resolver.get();
+        } else {
+            ElementCache.hit(name);
+        }
+        return element;
+    }
+
+    public <T> T apply(Function<WebElement, T> action) {
+        WebElement current = get();
+        try {
+            return action.apply(current);
+        } catch (StaleElementReferenceException e) {
+            ElementCache.refresh(name);
+            element = resolver.get();
+            return action.apply(element);
+        }
+    }
+
+    public void run(Consumer<WebElement> action) {
+        apply(e -> {
+            action.accept(e);
+            return null;
+        });
+    }
+
+    public ElementHandle visible() {
+        run(e -> wait.until(ExpectedConditions.visibilityOf(e)));
+        return this;
+    }
+
+    public ElementHandle clickable() {
+        run(e -> wait.until(ExpectedConditions.elementToBeClickable(e)));
+        return this;
+    }
+
+    public void click() {
+        run(WebElement::click);
+    }
+
+    public void clear() {
+        run(WebElement::clear);
+    }
+
+    public void sendKeys(CharSequence... keys) {
+        run(e -> e.sendKeys(keys));
+    }
+
+    public String value() {
+        return apply(e -> e.getAttribute("value"));
+    }
+
+    public String text() {
+        return apply(WebElement::getText);
+    }
+
+    public boolean isSelected() {
+        return apply(WebElement::isSelected);
+    }
+
+    public boolean isDisplayed() {
+        return apply(WebElement::isDisplayed);
+    }
+
+    public String name() {
+        return name;
+    }
+}
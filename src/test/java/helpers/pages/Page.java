@@ -0,0 +1,33 @@
+package helpers.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * Base of the page objects: the driver, its wait and factories for {@link ElementHandle}s
+ * named after the page, e.g. {@code PassengerFormPage.email}.
+ */
+public abstract class Page {
+
+    protected final WebDriver driver;
+    protected final WebDriverWait wait;
+
+    protected Page(WebDriver driver, WebDriverWait wait) {
+        this.driver = driver;
+        this.wait = wait;
+    }
+
+    protected ElementHandle handle(String name, By locator) {
+        return ElementHandle.located(getClass().getSimpleName() + "." + name, wait, locator);
+    }
+
+    protected void scrollIntoView(ElementHandle handle) {
+        handle.run(e -> ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", e));
+    }
+
+    protected void jsClick(ElementHandle handle) {
+        handle.run(e -> ((JavascriptExecutor) driver).executeScript("arguments[0].click();", e));
+    }
+}
@@ -0,0 +1,159 @@
+package helpers.pages;
+
+import io.qameta.allure.Step;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Keys;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Checkout passenger form, reached through {@link helpers.PassengerFormHelper#openPassengerForm}.
+ * Covers the first adult passenger and the client details.
+ */
+public class PassengerFormPage extends Page {
+
+    private static final String ADULT = "checkout-passengers-form_passengersCategories_adult_0_";
+    private static final String CLIENT = "checkout-passengers-form_clientDetails_";
+    private static final By DOB_INPUTS = By.cssSelector("input.ant-select-selection-search-input");
+
+    private final ElementHandle fullName = handle("fullName", By.id(ADULT + "full_name"));
+    private final ElementHandle citizenship = handle("citizenship", By.id(ADULT + "citizenship"));
+    private final ElementHandle passport = handle("passport", By.id(ADULT + "id_number"));
+    private final ElementHandle dateOfBirth = handle("dateOfBirth", By.id(ADULT + "dob"));
+    private final ElementHandle email = handle("email", By.id(CLIENT + "user_email"));
+    private final ElementHandle confirmEmail = handle("confirmEmail", By.id(CLIENT + "confirm_user_email"));
+    private final ElementHandle confirmEmailError = handle("confirmEmailError", By.id(CLIENT + "confirm_user_email_help"));
+    private final ElementHandle continueButton = handle("continueButton",
+            By.xpath("//form[@id='checkout-passengers-form']//button[.//span[text()='Continue']]"));
+    private final ElementHandle clearButton = handle("clearButton", By.xpath("//button[.//span[text()='Clear']]"));
+    private final ElementHandle headerName = handle("headerName",
+            By.cssSelector("div.sc-cf59c1f-0.ixREea span.sc-cf59c1f-1.dfrRB"));
+    private final Map<String, ElementHandle> genders = new HashMap<>();
+
+    public PassengerFormPage(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+    }
+
+    @Step("Enter full name: {name}")
+    public PassengerFormPage enterFullName(String name) {
+        scrollIntoView(fullName);
+        fullName.clear();
+        fullName.sendKeys(name);
+        return this;
+    }
+
+    @Step("Select gender: {gender}")
+    public PassengerFormPage selectGender(String gender) {
+        jsClick(genderRadio(gender));
+        return this;
+    }
+
+    @Step("Enter citizenship: {country}")
+    public PassengerFormPage enterCitizenship(String country) {
+        citizenship.sendKeys(country);
+        citizenship.sendKeys(Keys.ARROW_DOWN, Keys.ENTER);
+        return this;
+    }
+
+    @Step("Enter passport number: {number}")
+    public PassengerFormPage enterPassport(String number) {
+        passport.clear();
+        passport.sendKeys(number);
+        return this;
+    }
+
+    @Step("Enter date of birth: {day} {month} {year}")
+    public PassengerFormPage enterDateOfBirth(String day, String month, String year) {
+        dateOfBirth.run(container -> {
+            List<WebElement> selects = container.findElements(DOB_INPUTS);
+            selects.get(0).sendKeys(day, Keys.ENTER);
+            selects.get(1).sendKeys(month, Keys.ENTER);
+            selects.get(2).sendKeys(year, Keys.ENTER);
+        });
+        return this;
+    }
+
+    @Step("Enter email: {address}")
+    public PassengerFormPage enterEmail(String address) {
+        email.sendKeys(address);
+        return this;
+    }
+
+    @Step("Enter confirm email: {address}")
+    public PassengerFormPage enterConfirmEmail(String address) {
+        confirmEmail.sendKeys(address);
+        return this;
+    }
+
+    @Step("Click the Continue button on the passenger form")
+    public void clickContinue() {
+        continueButton.clickable();
+        scrollIntoView(continueButton);
+        jsClick(continueButton);
+    }
+
+    @Step("Click the Clear button on the passenger form")
+    public void clickClear() {
+        clearButton.clickable();
+        scrollIntoView(clearButton);
+        jsClick(clearButton);
+    }
+
+    public String fullNameValue() {
+        return fullName.value();
+    }
+
+    public boolean isGenderSelected(String gender) {
+        return genderRadio(gender).isSelected();
+    }
+
+    public String citizenshipValue() {
+        return citizenship.value();
+    }
+
+    public String passportValue() {
+        return passport.value();
+    }
+
+    public List<String> dateOfBirthValues() {
+        return dateOfBirth.apply(container -> container.findElements(DOB_INPUTS).stream()
+                .map(input -> input.getAttribute("value"))
+                .toList());
+    }
+
+    @Step("Wait for the Confirm Email field")
+    public PassengerFormPage waitForConfirmEmail() {
+        confirmEmail.visible();
+        return this;
+    }
+
+    public boolean isConfirmEmailDisplayed() {
+        return confirmEmail.visible().isDisplayed();
+    }
+
+    public String confirmEmailErrorText() {
+        return confirmEmailError.visible().text().trim();
+    }
+
+    public String headerNameText() {
+        return headerName.visible().text();
+    }
+
+    /**
+     * Validation messages come and go with every submit, so they are looked up fresh instead of cached.
+     */
+    public List<WebElement> validationErrors() {
+        return wait.until(ExpectedConditions.visibilityOfAllElementsLocatedBy(By.cssSelector(".ant-form-item-explain-error")));
+    }
+
+    private ElementHandle genderRadio(String gender) {
+        return genders.computeIfAbsent(gender,
+                g -> handle("gender." + g, By.xpath("//input[@type='radio' and @value='" + g + "']")));
+    }
+}
@@ -0,0 +1,83 @@
+package helpers.pages;
+
+import io.qameta.allure.Step;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.ExpectedConditions;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.util.List;
+
+/**
+ * Timetable page in both layouts: the current {@code /v9/trains/order/timetable} with train cards
+ * and the classic {@code /trains/order/timetable} with "Select Seats" rows.
+ */
+public class TimetablePage extends Page {
+
+    private static final By SELECT_SEATS = By.xpath("//button[contains(.,'Select Seats')]");
+
+    private final ElementHandle bulletTrainCard = handle("bulletTrainCard",
+            By.xpath("//div[.//span[translate(normalize-space(.),'abcdefghijklmnopqrstuvwxyz','ABCDEFGHIJKLMNOPQRSTUVWXYZ')='BULLET TRAIN']]"));
+    private final ElementHandle expandButton = bulletTrainCard.child("expandButton", By.xpath(".//button[@data-variant='tertiary']"));
+    private final ElementHandle flexibleFareButton = handle("flexibleFareButton", By.cssSelector("button[data-fare-name='Flexible']"));
+    private final ElementHandle continueButton = handle("continueButton", By.cssSelector("button[data-variant='primary']"));
+    private final ElementHandle selectSeatsButton = ElementHandle.resolvedBy("TimetablePage.selectSeatsButton", wait,
+            this::findFirstVisibleSelectSeats);
+
+    public TimetablePage(WebDriver driver, WebDriverWait wait) {
+        super(driver, wait);
+    }
+
+    @Step("Select flexible fare on timetable page")
+    public void selectFlexibleFare() throws InterruptedException {
+        wait.until(ExpectedConditions.presenceOfElementLocated(By.tagName("body")));
+
+        String currentUrl = driver.getCurrentUrl();
+
+        assert currentUrl != null;
+        if (currentUrl.contains("/v9/trains/order/timetable")) {
+            bulletTrainCard.visible();
+            scrollIntoView(expandButton);
+            Thread.sleep(500); // tiny delay for animations
+            jsClick(expandButton);
+
+            flexibleFareButton.clickable().click();
+            continueButton.clickable().click();
+
+        } else if (currentUrl.contains("/trains/order/timetable")) {
+            scrollIntoView(selectSeatsButton);
+            selectSeatsButton.clickable().click();
+
+            List<WebElement> fares = wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(
+                    By.xpath("//div[@data-fare-name='Flexible']")
+            ));
+
+            boolean clicked = false;
+            for (WebElement fare : fares) {
+                try {
+                    WebElement button = fare.findElement(By.tagName("button"));
+                    wait.until(ExpectedConditions.elementToBeClickable(button));
+                    button.click();
+                    clicked = true;
+                    break;
+                } catch (Exception ignored) {
+                }
+            }
+
+            if (!clicked) {
+                throw new RuntimeException("No clickable Flexible fare button found in old layout!");
+            }
+        } else {
+            throw new RuntimeException("Unknown page layout: " + currentUrl);
+        }
+    }
+
+    @Step("Select first visible 'Select Seats' button")
+    private WebElement findFirstVisibleSelectSeats() {
+        List<WebElement> elements = wait.until(ExpectedConditions.presenceOfAllElementsLocatedBy(SELECT_SEATS));
+        return elements.stream().filter(WebElement::isDisplayed).findFirst()
+                .orElseThrow(() -> new NoSuchElementException("No visible 'Select Seats' button found"));
+    }
+}
@@ -0,0 +1,89 @@
+package helpers.perf;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Append-only, tab-separated store of timing samples: one line per sample,
+ * {@code runId  commit  kind  key  millis}.
+ */
+public class BaselineStore {
+
+    public static final String DEFAULT_FILE = "target/perf-baseline.tsv";
+
+    private final Path file;
+
+    public BaselineStore(Path file) {
+        this.file = file;
+    }
+
+    public static BaselineStore fromSystemProperties() {
+        return new BaselineStore(Paths.get(System.getProperty("perf.baseline.file", DEFAULT_FILE)));
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    public synchronized void append(String runId, String commit, List<PerfSample> samples) throws IOException {
+        if (samples.isEmpty()) {
+            return;
+        }
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (PerfSample sample : samples) {
+                writer.write(String.join("\t", clean(runId), clean(commit), sample.kind().name(),
+                        clean(sample.key()), Long.toString(sample.millis())));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Reads the samples of the {@code maxRuns} most recent runs, skipping {@code excludedRunId}.
+     */
+    public List<Row> loadRecent(int maxRuns, String excludedRunId) throws IOException {
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        List<Row> rows = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String[] parts = line.split("\t");
+            if (parts.length != 5 || parts[0].equals(excludedRunId)) {
+                continue;
+            }
+            try {
+                rows.add(new Row(parts[0], parts[1],
+                        new PerfSample(PerfSample.Kind.valueOf(parts[2]), parts[3], Long.parseLong(parts[4]))));
+            } catch (IllegalArgumentException ignored) {
+                // corrupted or foreign line, the store is append-only so just skip it
+            }
+        }
+
+        Set<String> runs = new LinkedHashSet<>();
+        rows.forEach(row -> runs.add(row.runId()));
+        List<String> recentRuns = new ArrayList<>(runs).subList(Math.max(0, runs.size() - maxRuns), runs.size());
+        Set<String> keep = Set.copyOf(recentRuns);
+        return rows.stream().filter(row -> keep.contains(row.runId())).toList();
+    }
+
+    private static String clean(String value) {
+        return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    public record Row(String runId, String commit, PerfSample sample) {
+    }
+}
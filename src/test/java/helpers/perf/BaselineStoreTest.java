@@ -0,0 +1,67 @@
+package helpers.perf;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+@Tag("unit")
+@Epic("Performance")
+@Feature("Regression gating against stored baselines")
+public class BaselineStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @Description("loadRecent keeps the most recent runs only and skips the excluded run")
+    @Severity(SeverityLevel.NORMAL)
+    public void testLoadRecentWindowsByRun() throws IOException {
+        BaselineStore store = new BaselineStore(dir.resolve("nested/baseline.tsv"));
+        for (String run : List.of("r1", "r2", "r3", "r4")) {
+            store.append(run, "c-" + run, List.of(
+                    new PerfSample(PerfSample.Kind.TEST, "t", 10),
+                    new PerfSample(PerfSample.Kind.STEP, "s", 20)));
+        }
+
+        List<BaselineStore.Row> rows = store.loadRecent(2, "r4");
+
+        Assertions.assertEquals(List.of("r2", "r2", "r3", "r3"), rows.stream().map(BaselineStore.Row::runId).toList());
+        Assertions.assertEquals("c-r3", rows.get(2).commit());
+        Assertions.assertEquals(new PerfSample(PerfSample.Kind.TEST, "t", 10), rows.get(2).sample());
+    }
+
+    @Test
+    @Description("Tabs in keys are replaced and corrupted lines are skipped")
+    @Severity(SeverityLevel.MINOR)
+    public void testAppendSanitizesAndLoadSkipsCorruptedLines() throws IOException {
+        Path file = dir.resolve("baseline.tsv");
+        BaselineStore store = new BaselineStore(file);
+        store.append("r1", "abc", List.of(new PerfSample(PerfSample.Kind.ENDPOINT, "GET\t/x", 5)));
+        Files.writeString(file, "garbage\nr2\tabc\tUNKNOWN\tk\t1\nr2\tabc\tTEST\tk\tnot-a-number\n",
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        List<BaselineStore.Row> rows = store.loadRecent(10, null);
+
+        Assertions.assertEquals(1, rows.size());
+        Assertions.assertEquals("GET /x", rows.get(0).sample().key());
+    }
+
+    @Test
+    @Description("A missing store is an empty baseline, an empty run writes nothing")
+    @Severity(SeverityLevel.MINOR)
+    public void testMissingStoreIsEmpty() throws IOException {
+        BaselineStore store = new BaselineStore(dir.resolve("missing.tsv"));
+        store.append("r1", "abc", List.of());
+        Assertions.assertFalse(Files.exists(store.file()));
+        Assertions.assertTrue(store.loadRecent(10, null).isEmpty());
+    }
+}
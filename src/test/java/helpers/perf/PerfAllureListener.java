@@ -0,0 +1,31 @@
+package helpers.perf;
+
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.listener.TestLifecycleListener;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.StepResult;
+import io.qameta.allure.model.TestResult;
+
+/**
+ * Picks up test and {@code @Step} durations from the Allure lifecycle. Only passed tests and steps are kept,
+ * a failure that returns early would otherwise drag the baseline down.
+ * Registered through {@code META-INF/services}.
+ */
+public class PerfAllureListener implements StepLifecycleListener, TestLifecycleListener {
+
+    @Override
+    public void afterStepStop(StepResult result) {
+        if (result.getStatus() == Status.PASSED && result.getStart() != null && result.getStop() != null) {
+            PerfRecorder.record(PerfSample.Kind.STEP, PerfRecorder.stepKey(result.getName()),
+                    result.getStop() - result.getStart());
+        }
+    }
+
+    @Override
+    public void afterTestStop(TestResult result) {
+        if (result.getStatus() == Status.PASSED && result.getStart() != null && result.getStop() != null) {
+            PerfRecorder.record(PerfSample.Kind.TEST, result.getFullName(),
+                    result.getStop() - result.getStart());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package helpers.perf;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.net.URI;
+
+/**
+ * Records the latency of every RestAssured call, keyed by HTTP method and path.
+ */
+public class PerfLatencyFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        PerfRecorder.record(PerfSample.Kind.ENDPOINT, requestSpec.getMethod() + " " + path(requestSpec.getURI()), millis);
+        return response;
+    }
+
+    private static String path(String uri) {
+        try {
+            return URI.create(uri).getPath();
+        } catch (IllegalArgumentException e) {
+            int query = uri.indexOf('?');
+            return query >= 0 ? uri.substring(0, query) : uri;
+        }
+    }
+}
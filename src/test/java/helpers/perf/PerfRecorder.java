@@ -0,0 +1,92 @@
+package helpers.perf;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects test, step and endpoint timings of the current run in memory.
+ * Samples are flushed to the {@link BaselineStore} once the test plan finishes.
+ */
+public final class PerfRecorder {
+
+    private static final Queue<PerfSample> SAMPLES = new ConcurrentLinkedQueue<>();
+    private static volatile String runId = newRunId();
+    private static volatile String commit;
+
+    private PerfRecorder() {
+    }
+
+    public static void startRun() {
+        SAMPLES.clear();
+        runId = newRunId();
+    }
+
+    public static void record(PerfSample.Kind kind, String key, long millis) {
+        if (key == null || millis < 0) {
+            return;
+        }
+        SAMPLES.add(new PerfSample(kind, key, millis));
+    }
+
+    public static List<PerfSample> samples() {
+        return new ArrayList<>(SAMPLES);
+    }
+
+    public static String runId() {
+        return runId;
+    }
+
+    public static String commit() {
+        if (commit == null) {
+            commit = resolveCommit();
+        }
+        return commit;
+    }
+
+    /**
+     * Allure step names embed their parameters after a colon
+     * ("Enter station in input {inputId}: {stationName}"), so only the part before it is kept
+     * to make the same step comparable across runs.
+     */
+    static String stepKey(String stepName) {
+        if (stepName == null) {
+            return null;
+        }
+        int colon = stepName.indexOf(": ");
+        return (colon > 0 ? stepName.substring(0, colon) : stepName).trim();
+    }
+
+    private static String newRunId() {
+        return System.currentTimeMillis() + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private static String resolveCommit() {
+        String configured = System.getProperty("perf.commit");
+        if (configured != null && !configured.isBlank()) {
+            return configured.trim();
+        }
+        try {
+            Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD")
+                    .redirectErrorStream(true)
+                    .start();
+            if (process.waitFor(5, TimeUnit.SECONDS) && process.exitValue() == 0) {
+                String out = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+                if (!out.isEmpty()) {
+                    return out;
+                }
+            }
+            process.destroy();
+        } catch (IOException e) {
+            // git is not available, fall through
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "unknown";
+    }
+}
@@ -0,0 +1,8 @@
+package helpers.perf;
+
+public record PerfSample(Kind kind, String key, long millis) {
+
+    public enum Kind {
+        TEST, STEP, ENDPOINT
+    }
+}
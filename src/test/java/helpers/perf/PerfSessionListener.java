@@ -0,0 +1,52 @@
+package helpers.perf;
+
+import io.restassured.RestAssured;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Starts a fresh timing run with every test plan and appends its samples to the baseline store
+ * when the plan finishes. A plan with failures is not appended, its timings say little about
+ * a healthy run. Registered through {@code META-INF/services}.
+ */
+public class PerfSessionListener implements TestExecutionListener {
+
+    private static final AtomicBoolean FILTER_INSTALLED = new AtomicBoolean();
+
+    private final AtomicBoolean failed = new AtomicBoolean();
+
+    @Override
+    public void testPlanExecutionStarted(TestPlan testPlan) {
+        PerfRecorder.startRun();
+        failed.set(false);
+        if (FILTER_INSTALLED.compareAndSet(false, true)) {
+            RestAssured.filters(new PerfLatencyFilter());
+        }
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+        if (testExecutionResult.getStatus() == TestExecutionResult.Status.FAILED) {
+            failed.set(true);
+        }
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (failed.get()) {
+            System.err.println("Test plan had failures, run " + PerfRecorder.runId() + " is not added to the performance baseline");
+            return;
+        }
+        try {
+            BaselineStore.fromSystemProperties()
+                    .append(PerfRecorder.runId(), PerfRecorder.commit(), PerfRecorder.samples());
+        } catch (IOException e) {
+            System.err.println("Could not write performance baseline: " + e.getMessage());
+        }
+    }
+}
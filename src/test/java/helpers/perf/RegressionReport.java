@@ -0,0 +1,124 @@
+package helpers.perf;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the median and p95 of the current run against the stored baseline, per test, step and endpoint.
+ */
+public class RegressionReport {
+
+    private final List<Entry> entries;
+    private final double threshold;
+    private final long minDeltaMillis;
+
+    private RegressionReport(List<Entry> entries, double threshold, long minDeltaMillis) {
+        this.entries = entries;
+        this.threshold = threshold;
+        this.minDeltaMillis = minDeltaMillis;
+    }
+
+    /**
+     * @param threshold      relative slowdown that counts as a regression, e.g. {@code 0.2} for +20%
+     * @param minDeltaMillis absolute slowdown below which a change is treated as noise
+     */
+    public static RegressionReport compare(List<PerfSample> current, List<BaselineStore.Row> baseline,
+                                           double threshold, long minDeltaMillis) {
+        Map<String, List<Long>> currentByKey = group(current);
+        Map<String, List<Long>> baselineByKey = group(baseline.stream().map(BaselineStore.Row::sample).toList());
+        Map<String, TreeSet<String>> commitsByKey = new TreeMap<>();
+        for (BaselineStore.Row row : baseline) {
+            commitsByKey.computeIfAbsent(id(row.sample()), k -> new TreeSet<>()).add(row.commit());
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        currentByKey.forEach((id, values) -> {
+            List<Long> before = baselineByKey.get(id);
+            if (before == null) {
+                return;
+            }
+            long medianNow = percentile(values, 50);
+            long p95Now = percentile(values, 95);
+            long medianBefore = percentile(before, 50);
+            long p95Before = percentile(before, 95);
+            boolean regressed = isRegression(medianBefore, medianNow, threshold, minDeltaMillis)
+                    || isRegression(p95Before, p95Now, threshold, minDeltaMillis);
+            entries.add(new Entry(id, String.join(",", commitsByKey.get(id)),
+                    medianBefore, medianNow, p95Before, p95Now, regressed));
+        });
+        entries.sort(Comparator.comparing(Entry::regressed).reversed().thenComparing(Entry::id));
+        return new RegressionReport(entries, threshold, minDeltaMillis);
+    }
+
+    public List<Entry> entries() {
+        return entries;
+    }
+
+    public List<Entry> regressions() {
+        return entries.stream().filter(Entry::regressed).toList();
+    }
+
+    public String toText() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Threshold: +%.0f%% (ignoring deltas under %d ms)%n", threshold * 100, minDeltaMillis));
+        sb.append(String.format("%-10s %-8s %-8s %-8s %-8s %s%n", "STATUS", "MED.OLD", "MED.NEW", "P95.OLD", "P95.NEW", "KEY"));
+        for (Entry e : entries) {
+            sb.append(String.format("%-10s %-8d %-8d %-8d %-8d %s%n", e.regressed() ? "REGRESSED" : "ok",
+                    e.medianBefore(), e.medianNow(), e.p95Before(), e.p95Now(), e.id()));
+        }
+        return sb.toString();
+    }
+
+    public String toHtml() {
+        StringBuilder sb = new StringBuilder("<html><body>");
+        sb.append("<p>Threshold: +").append(Math.round(threshold * 100)).append("% (ignoring deltas under ")
+                .append(minDeltaMillis).append(" ms)</p>");
+        sb.append("<table border='1' cellspacing='0' cellpadding='4'>")
+                .append("<tr><th>Status</th><th>Key</th><th>Baseline commits</th>")
+                .append("<th>Median old</th><th>Median new</th><th>p95 old</th><th>p95 new</th></tr>");
+        for (Entry e : entries) {
+            sb.append(e.regressed() ? "<tr style='background:#fdd'>" : "<tr>")
+                    .append("<td>").append(e.regressed() ? "REGRESSED" : "ok").append("</td>")
+                    .append("<td>").append(escape(e.id())).append("</td>")
+                    .append("<td>").append(escape(e.baselineCommits())).append("</td>")
+                    .append("<td>").append(e.medianBefore()).append("</td>")
+                    .append("<td>").append(e.medianNow()).append("</td>")
+                    .append("<td>").append(e.p95Before()).append("</td>")
+                    .append("<td>").append(e.p95Now()).append("</td></tr>");
+        }
+        return sb.append("</table></body></html>").toString();
+    }
+
+    static long percentile(Collection<Long> values, int percentile) {
+        List<Long> sorted = values.stream().sorted().toList();
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.size());
+        return sorted.get(Math.max(0, rank - 1));
+    }
+
+    static boolean isRegression(long before, long now, double threshold, long minDeltaMillis) {
+        return now - before >= minDeltaMillis && now > before * (1 + threshold);
+    }
+
+    private static Map<String, List<Long>> group(List<PerfSample> samples) {
+        return samples.stream().collect(Collectors.groupingBy(RegressionReport::id, TreeMap::new,
+                Collectors.mapping(PerfSample::millis, Collectors.toList())));
+    }
+
+    private static String id(PerfSample sample) {
+        return sample.kind() + " " + sample.key();
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    public record Entry(String id, String baselineCommits, long medianBefore, long medianNow,
+                        long p95Before, long p95Now, boolean regressed) {
+    }
+}
@@ -0,0 +1,65 @@
+package helpers.perf;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@Tag("unit")
+@Epic("Performance")
+@Feature("Regression gating against stored baselines")
+public class RegressionReportTest {
+
+    @Test
+    @Description("Percentiles use the nearest-rank method")
+    @Severity(SeverityLevel.NORMAL)
+    public void testPercentileNearestRank() {
+        List<Long> values = List.of(50L, 10L, 40L, 20L, 30L);
+        Assertions.assertEquals(30, RegressionReport.percentile(values, 50));
+        Assertions.assertEquals(50, RegressionReport.percentile(values, 95));
+        Assertions.assertEquals(10, RegressionReport.percentile(values, 0));
+        Assertions.assertEquals(7, RegressionReport.percentile(List.of(7L), 95));
+    }
+
+    @Test
+    @Description("A slowdown counts only when it exceeds both the relative threshold and the minimum delta")
+    @Severity(SeverityLevel.NORMAL)
+    public void testRegressionNeedsThresholdAndMinimumDelta() {
+        Assertions.assertTrue(RegressionReport.isRegression(100, 200, 0.2, 50));
+        Assertions.assertFalse(RegressionReport.isRegression(100, 119, 0.2, 10), "below relative threshold");
+        Assertions.assertFalse(RegressionReport.isRegression(10, 40, 0.2, 50), "below minimum delta");
+        Assertions.assertFalse(RegressionReport.isRegression(200, 100, 0.2, 50), "speed-up");
+    }
+
+    @Test
+    @Description("Only keys present in the baseline are compared and regressions are listed first")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCompareFlagsRegressedKeys() {
+        List<BaselineStore.Row> baseline = List.of(
+                row("r1", "abc", PerfSample.Kind.TEST, "slow", 100),
+                row("r2", "def", PerfSample.Kind.TEST, "slow", 110),
+                row("r1", "abc", PerfSample.Kind.STEP, "steady", 100));
+        List<PerfSample> current = List.of(
+                new PerfSample(PerfSample.Kind.TEST, "slow", 400),
+                new PerfSample(PerfSample.Kind.STEP, "steady", 105),
+                new PerfSample(PerfSample.Kind.ENDPOINT, "GET /new", 999));
+
+        RegressionReport report = RegressionReport.compare(current, baseline, 0.2, 50);
+
+        Assertions.assertEquals(2, report.entries().size());
+        RegressionReport.Entry first = report.entries().get(0);
+        Assertions.assertEquals("TEST slow", first.id());
+        Assertions.assertTrue(first.regressed());
+        Assertions.assertEquals("abc,def", first.baselineCommits());
+        Assertions.assertEquals(100, first.medianBefore());
+        Assertions.assertEquals(110, first.p95Before());
+        Assertions.assertEquals(List.of(first), report.regressions());
+        Assertions.assertFalse(report.entries().get(1).regressed());
+    }
+
+    private static BaselineStore.Row row(String runId, String commit, PerfSample.Kind kind, String key, long millis) {
+        return new BaselineStore.Row(runId, commit, new PerfSample(kind, key, millis));
+    }
+}
@@ -0,0 +1,39 @@
+package org.project;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("unit")
+@Epic("Test framework")
+@Feature("Warm daemon")
+public class DaemonSettingsTest {
+
+    @Test
+    @Description("Daemon options are parsed with the launcher's value checks")
+    @Severity(SeverityLevel.NORMAL)
+    public void testParse() {
+        Daemon.Settings defaults = Daemon.Settings.parse();
+        Assertions.assertEquals(new Daemon.Settings(Daemon.DEFAULT_PORT, 1, false, "target/allure-results"), defaults);
+
+        Daemon.Settings settings = Daemon.Settings.parse("--port", "7811", "--warm-drivers", "0",
+                "--resume-passenger-form", "--results-dir", "out");
+        Assertions.assertEquals(new Daemon.Settings(7811, 0, true, "out"), settings);
+    }
+
+    @Test
+    @Description("Missing or malformed daemon option values are reported instead of crashing")
+    @Severity(SeverityLevel.NORMAL)
+    public void testInvalidArguments() {
+        assertRejected("Missing value for --port", "--port");
+        assertRejected("Missing value for --warm-drivers", "--warm-drivers", "--port", "1");
+        assertRejected("--warm-drivers expects zero or a positive number but was: x", "--warm-drivers", "x");
+        assertRejected("Unknown daemon option: --verbose", "--verbose");
+    }
+
+    private static void assertRejected(String message, String... args) {
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class, () -> Daemon.Settings.parse(args));
+        Assertions.assertEquals(message, e.getMessage());
+    }
+}
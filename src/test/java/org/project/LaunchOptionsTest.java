@@ -0,0 +1,79 @@
+package org.project;
+
+import io.qameta.allure.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+@Tag("unit")
+@Epic("Test framework")
+@Feature("In-process launcher")
+public class LaunchOptionsTest {
+
+    @Test
+    @Description("Without arguments the launcher runs everything sequentially")
+    @Severity(SeverityLevel.NORMAL)
+    public void testDefaults() {
+        LaunchOptions options = LaunchOptions.parse();
+        Assertions.assertFalse(options.hasSelectors());
+        Assertions.assertEquals(1, options.parallelism);
+        Assertions.assertEquals(10, options.slowest);
+        Assertions.assertEquals("target/allure-results", options.resultsDir);
+        Assertions.assertFalse(options.help);
+    }
+
+    @Test
+    @Description("Repeatable selectors and tag expressions with spaces are collected in order")
+    @Severity(SeverityLevel.NORMAL)
+    public void testRepeatableOptions() {
+        LaunchOptions options = LaunchOptions.parse(
+                "--suite", "task1", "--suite", "task3",
+                "--class", "task2.PassengerFormTests",
+                "--method", "task2.PassengerFormTests#testConfirmEmailFieldAppears",
+                "--tag", "ui & !perf", "--exclude-tag", "sweep",
+                "--parallelism", "4", "--slowest", "3", "--results-dir", "out/allure", "-h");
+
+        Assertions.assertTrue(options.hasSelectors());
+        Assertions.assertEquals(List.of("task1", "task3"), options.suites);
+        Assertions.assertEquals(List.of("task2.PassengerFormTests"), options.classes);
+        Assertions.assertEquals(List.of("task2.PassengerFormTests#testConfirmEmailFieldAppears"), options.methods);
+        Assertions.assertEquals(List.of("ui & !perf"), options.includeTags);
+        Assertions.assertEquals(List.of("sweep"), options.excludeTags);
+        Assertions.assertEquals(4, options.parallelism);
+        Assertions.assertEquals(3, options.slowest);
+        Assertions.assertEquals("out/allure", options.resultsDir);
+        Assertions.assertTrue(options.help);
+    }
+
+    @Test
+    @Description("Missing values, non-positive numbers and unknown options are rejected with a readable message")
+    @Severity(SeverityLevel.NORMAL)
+    public void testInvalidArguments() {
+        assertRejected("Missing value for --class", "--class");
+        assertRejected("Missing value for --suite", "--suite", "--tag", "ui");
+        assertRejected("--parallelism expects a positive number but was: 0", "--parallelism", "0");
+        assertRejected("--slowest expects a positive number but was: many", "--slowest", "many");
+        assertRejected("Unknown option: --verbose", "--verbose");
+    }
+
+    @Test
+    @Description("Method selectors and tag expressions are checked while parsing, not when the run starts")
+    @Severity(SeverityLevel.NORMAL)
+    public void testInvalidSelectorsAndTags() {
+        assertRejected("--method expects <class>#<method> but was: task2.PassengerFormTests",
+                "--method", "task2.PassengerFormTests");
+        IllegalArgumentException tag = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> LaunchOptions.parse("--tag", "ui & (perf"));
+        Assertions.assertTrue(tag.getMessage().startsWith("--tag has an invalid tag expression: "), tag.getMessage());
+        IllegalArgumentException excluded = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> LaunchOptions.parse("--exclude-tag", "!"));
+        Assertions.assertTrue(excluded.getMessage().startsWith("--exclude-tag has an invalid tag expression: "), excluded.getMessage());
+    }
+
+    private static void assertRejected(String message, String... args) {
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class, () -> LaunchOptions.parse(args));
+        Assertions.assertEquals(message, e.getMessage());
+    }
+}
@@ -0,0 +1,45 @@
+package perf;
+
+import helpers.perf.BaselineStore;
+import helpers.perf.PerfRecorder;
+import helpers.perf.RegressionReport;
+import io.qameta.allure.*;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.io.IOException;
+import java.util.List;
+
+@Tag("perf")
+@Epic("Performance")
+@Feature("Regression gating against stored baselines")
+@Order(Integer.MAX_VALUE)
+@Isolated("compares the samples of all other classes, so it must not overlap them")
+public class PerformanceRegressionTest {
+
+    @Test
+    @Description("Compare test, step and endpoint timings of this run against the stored baseline")
+    @Severity(SeverityLevel.NORMAL)
+    public void testNoPerformanceRegressions() throws IOException {
+        double threshold = Double.parseDouble(System.getProperty("perf.regression.threshold", "0.2"));
+        long minDeltaMillis = Long.parseLong(System.getProperty("perf.regression.minMillis", "50"));
+        int baselineRuns = Integer.parseInt(System.getProperty("perf.baseline.runs", "10"));
+        boolean failOnRegression = Boolean.parseBoolean(System.getProperty("perf.failOnRegression", "false"));
+
+        BaselineStore store = BaselineStore.fromSystemProperties();
+        List<BaselineStore.Row> baseline = store.loadRecent(baselineRuns, PerfRecorder.runId());
+        Assumptions.assumeFalse(baseline.isEmpty(), "No performance baseline in " + store.file() + " yet");
+
+        RegressionReport report = RegressionReport.compare(PerfRecorder.samples(), baseline, threshold, minDeltaMillis);
+        Allure.addAttachment("Performance diff vs baseline", "text/html", report.toHtml(), ".html");
+
+        if (failOnRegression) {
+            Assertions.assertTrue(report.regressions().isEmpty(),
+                    "Performance regressions against commit(s) in baseline:\n" + report.toText());
+        }
+    }
+}
@@ -1,22 +1,28 @@
 package task1;
 
+import helpers.BrowserState;
+import helpers.FailureArtifactsExtension;
 import helpers.PassengerFormHelper;
+import helpers.Site;
+import helpers.StepRetryExtension;
+import helpers.pages.ElementCacheExtension;
+import helpers.pages.PassengerFormPage;
 import io.qameta.allure.*;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
-import org.openqa.selenium.By;
-import org.openqa.selenium.JavascriptExecutor;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.WebElement;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.project.DriverPool;
 
 import java.time.Duration;
 import java.time.LocalDate;
 
+@Tag("ui")
+@ExtendWith({FailureArtifactsExtension.class, StepRetryExtension.class, ElementCacheExtension.class})
 @Epic("Passenger Form Tests")
 @Feature("UI Form Interaction")
 class NameDisplayInHeaderTest {
@@ -25,15 +31,16 @@ class NameDisplayInHeaderTest {
 
     @BeforeAll
     public static void setUp() {
-        driver = new ChromeDriver();
+        driver = DriverPool.acquire();
         wait = new WebDriverWait(driver, Duration.ofSeconds(10));
         driver.manage().window().maximize();
-        driver.get("https://rail.ninja/");
+        BrowserState.prepare(driver, Site.baseUrl());
+        driver.get(Site.baseUrl());
     }
 
     @AfterAll
     public static void tearDown() {
-        if (driver != null) driver.quit();
+        DriverPool.release(driver);
     }
 
     @Test
@@ -44,20 +51,11 @@ class NameDisplayInHeaderTest {
         helper.openPassengerForm("Mecca", "Medina",
                 LocalDate.of(2025, 11, 5));
 
-        By fullNameLocator = By.id("checkout-passengers-form_passengersCategories_adult_0_full_name");
-        WebElement fullNameInput = wait.until(ExpectedConditions.presenceOfElementLocated(fullNameLocator));
-        ((JavascriptExecutor) driver).executeScript("arguments[0].scrollIntoView({block: 'center'});", fullNameInput);
-
+        PassengerFormPage page = new PassengerFormPage(driver, wait);
         String expectedName = "John Doe";
-        fullNameInput.clear();
-        fullNameInput.sendKeys(expectedName);
-
-        WebElement headerElement = wait.until(
-                ExpectedConditions.visibilityOfElementLocated(
-                        By.cssSelector("div.sc-cf59c1f-0.ixREea span.sc-cf59c1f-1.dfrRB"))
-        );
+        page.enterFullName(expectedName);
 
-        String actualName = headerElement.getText();
+        String actualName = page.headerNameText();
         Assertions.assertEquals(expectedName, actualName, "Header did not update with entered passenger name");
     }
 }
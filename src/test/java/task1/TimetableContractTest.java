@@ -0,0 +1,41 @@
+package task1;
+
+import helpers.ApiHelper;
+import helpers.ContractSnapshots;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+@Tag("api")
+@Tag("contract")
+@Epic("Timetable API Tests")
+@Feature("API Contract Verification")
+public class TimetableContractTest {
+
+    @Test
+    @Description("Check that the structure of the /timetable response matches the stored contract snapshot")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testTimetable_v2_matches_contract_snapshot() {
+        String body = """
+                {
+                  "passengers": { "adults": 1, "children": 0, "children_age": [] },
+                  "legs": {
+                    "1": {
+                      "departure_station": "23e9ca21-c51d-41be-b421-94e2da736ce3",
+                      "arrival_station": "8fbfe521-8d0c-4187-9076-ad1731b42ae9",
+                      "departure_date": "05.11.2025"
+                    }
+                  }
+                }
+                """;
+
+        Response resp = ApiHelper.postTimetableSearch(body);
+        Assertions.assertEquals(200, resp.getStatusCode(), "Unexpected status code");
+
+        ContractSnapshots.assertMatchesSnapshot("timetable-v2", resp, Set.of("$.trains"));
+    }
+}
@@ -0,0 +1,84 @@
+package task1;
+
+import helpers.ApiHelper;
+import helpers.AsyncApiHelper;
+import helpers.RouteMatrix;
+import helpers.TimetableAssertions;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Tag("api")
+@Tag("sweep")
+@Epic("Timetable API Tests")
+@Feature("Route matrix sweep")
+public class TimetableRouteMatrixTest {
+
+    @Test
+    @Description("Check every route/date/passenger combination of the route matrix against the /timetable invariants")
+    @Severity(SeverityLevel.NORMAL)
+    public void testTimetable_v2_route_matrix() {
+        List<RouteMatrix.Route> routes = RouteMatrix.load();
+        Map<Integer, String> outcomes = new ConcurrentHashMap<>();
+        Map<Integer, Long> latencies = new ConcurrentHashMap<>();
+
+        // every search is in flight at once, bounded by -Dapi.maxInFlight, each in its own step of this test
+        List<CompletableFuture<Response>> checks = new ArrayList<>();
+        for (int i = 0; i < routes.size(); i++) {
+            int index = i;
+            RouteMatrix.Route route = routes.get(i);
+            checks.add(AsyncApiHelper.inStep("Route " + route, () -> {
+                try {
+                    Response resp = ApiHelper.postTimetableSearch(route.requestBody());
+                    latencies.put(index, resp.getTimeIn(TimeUnit.MILLISECONDS));
+                    TimetableAssertions.assertTrainsMatch(resp, route.departureName(), route.arrivalName(), route.departureDate());
+                    outcomes.put(index, "PASSED");
+                    return resp;
+                } catch (RuntimeException | AssertionError e) {
+                    outcomes.put(index, "FAILED: " + String.valueOf(e.getMessage()).lines().findFirst().orElse(""));
+                    throw e;
+                }
+            }));
+        }
+
+        try {
+            AsyncApiHelper.awaitAll(checks);
+        } finally {
+            Allure.addAttachment("Route matrix results", "text/html", table(routes, outcomes, latencies), ".html");
+        }
+    }
+
+    private static String table(List<RouteMatrix.Route> routes, Map<Integer, String> outcomes,
+                                Map<Integer, Long> latencies) {
+        long passed = outcomes.values().stream().filter("PASSED"::equals).count();
+        StringBuilder sb = new StringBuilder("<html><body>")
+                .append("<p>").append(passed).append(" of ").append(routes.size()).append(" routes passed</p>")
+                .append("<table border='1' cellspacing='0' cellpadding='4'>")
+                .append("<tr><th>Route</th><th>Date</th><th>Adults</th><th>Children</th><th>Result</th><th>Latency, ms</th></tr>");
+        for (int i = 0; i < routes.size(); i++) {
+            RouteMatrix.Route route = routes.get(i);
+            String outcome = outcomes.getOrDefault(i, "NOT RUN");
+            Long latency = latencies.get(i);
+            sb.append(outcome.equals("PASSED") ? "<tr>" : "<tr style='background:#fdd'>")
+                    .append("<td>").append(route.departureName()).append(" &rarr; ").append(route.arrivalName()).append("</td>")
+                    .append("<td>").append(route.departureDate().format(RouteMatrix.DATE_FORMAT)).append("</td>")
+                    .append("<td>").append(route.adults()).append("</td>")
+                    .append("<td>").append(route.children()).append("</td>")
+                    .append("<td>").append(escape(outcome)).append("</td>")
+                    .append("<td>").append(latency == null ? "-" : latency).append("</td></tr>");
+        }
+        return sb.append("</table></body></html>").toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+}
@@ -0,0 +1,50 @@
+package task3;
+
+import helpers.ApiHelper;
+import helpers.ContractSnapshots;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+@Tag("api")
+@Tag("contract")
+@Epic("Search History API Tests")
+@Feature("API Contract Verification")
+public class SearchHistoryContractTest {
+
+    @Test
+    @Description("Check that the structure of the /station/history response for a round trip matches the stored contract snapshot")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testSearchHistory_matches_contract_snapshot() {
+        String body = """
+                {
+                  "passengers": { "adults": 2, "children": 1, "children_age": [7] },
+                  "legs": {
+                    "1": {
+                      "departure_station": "23e9ca21-c51d-41be-b421-94e2da736ce3",
+                      "arrival_station": "8fbfe521-8d0c-4187-9076-ad1731b42ae9",
+                      "departure_date": "06.11.2025"
+                    },
+                    "2": {
+                      "departure_station": "8fbfe521-8d0c-4187-9076-ad1731b42ae9",
+                      "arrival_station": "23e9ca21-c51d-41be-b421-94e2da736ce3",
+                      "departure_date": "07.11.2025"
+                    }
+                  }
+                }
+                """;
+
+        Response postResp = ApiHelper.postTimetableSearch(body);
+        String cookie = postResp.getCookie("search_history");
+        Assertions.assertNotNull(cookie, "Expected search_history cookie in POST response");
+
+        Response getResp = ApiHelper.getSearchHistory(cookie);
+        Assertions.assertEquals(200, getResp.getStatusCode());
+
+        ContractSnapshots.assertMatchesSnapshot("station-history-v1", getResp, Set.of());
+    }
+}
@@ -1,16 +1,21 @@
 package task3;
 
 import helpers.ApiHelper;
+import helpers.AsyncApiHelper;
 import io.qameta.allure.*;
 import io.restassured.path.json.JsonPath;
 import io.restassured.response.Response;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
+@Tag("api")
 @Epic("Search History API Tests")
 @Feature("Integration tests for verifying search history behavior")
 public class SearchHistoryIntegrationTests {
@@ -136,6 +141,53 @@ public class SearchHistoryIntegrationTests {
         Assertions.assertArrayEquals(new int[]{4, 6}, ages);
     }
 
+    @Test
+    @Story("Verify concurrent searches are recorded independently")
+    @Description("Test that outbound and return searches issued concurrently each get their own search_history cookie and matching history entry")
+    @Severity(SeverityLevel.NORMAL)
+    public void testSearchHistory_concurrentSearchesRecordedIndependently() {
+        String outbound = """
+                {
+                  "passengers": { "adults": 1, "children": 0, "children_age": [] },
+                  "legs": {
+                    "1": {
+                      "departure_station": "23e9ca21-c51d-41be-b421-94e2da736ce3",
+                      "arrival_station": "8fbfe521-8d0c-4187-9076-ad1731b42ae9",
+                      "departure_date": "06.11.2025"
+                    }
+                  }
+                }
+                """;
+        String inbound = """
+                {
+                  "passengers": { "adults": 1, "children": 0, "children_age": [] },
+                  "legs": {
+                    "1": {
+                      "departure_station": "8fbfe521-8d0c-4187-9076-ad1731b42ae9",
+                      "arrival_station": "23e9ca21-c51d-41be-b421-94e2da736ce3",
+                      "departure_date": "07.11.2025"
+                    }
+                  }
+                }
+                """;
+
+        List<CompletableFuture<AsyncApiHelper.SearchWithHistory>> searches = List.of(
+                AsyncApiHelper.searchWithHistory("Search Mecca -> Medina and read history", outbound,
+                        (postResp, getResp) -> assertSingleLegHistory(getResp, "Mecca", "Medina")),
+                AsyncApiHelper.searchWithHistory("Search Medina -> Mecca and read history", inbound,
+                        (postResp, getResp) -> assertSingleLegHistory(getResp, "Medina", "Mecca")));
+
+        AsyncApiHelper.awaitAll(searches);
+    }
+
+    private static void assertSingleLegHistory(Response getResp, String expectedDep, String expectedArr) {
+        Assertions.assertEquals(200, getResp.getStatusCode());
+
+        JsonPath json = getResp.jsonPath();
+        Assertions.assertEquals(expectedDep, json.getString("legs.'1'.departure_station.single_name[0]"), "Station mismatch for leg 1 dep");
+        Assertions.assertEquals(expectedArr, json.getString("legs.'1'.arrival_station.single_name[0]"), "Station mismatch for leg 1 arr");
+    }
+
     @Test
     @Story("Verify empty cookie returns empty search history")
     @Description("Test that an invalid or empty search_history cookie returns an empty list from the search history API")